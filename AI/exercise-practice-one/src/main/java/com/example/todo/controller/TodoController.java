@@ -1,5 +1,6 @@
 package com.example.todo.controller;
 
+import com.example.todo.dto.TodoResponse;
 import com.example.todo.model.Todo;
 import com.example.todo.service.TodoService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,25 +23,25 @@ public class TodoController {
 
     @GetMapping
     @Operation(summary = "Get all todos")
-    public ResponseEntity<List<Todo>> getAllTodos() {
+    public ResponseEntity<List<TodoResponse>> getAllTodos() {
         return ResponseEntity.ok(todoService.getAllTodos());
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get todo by ID")
-    public ResponseEntity<Todo> getTodoById(@PathVariable Long id) {
+    public ResponseEntity<TodoResponse> getTodoById(@PathVariable Long id) {
         return ResponseEntity.ok(todoService.getTodoById(id));
     }
 
     @PostMapping
     @Operation(summary = "Create a new todo")
-    public ResponseEntity<Todo> createTodo(@Valid @RequestBody Todo todo) {
+    public ResponseEntity<TodoResponse> createTodo(@Valid @RequestBody Todo todo) {
         return new ResponseEntity<>(todoService.createTodo(todo), HttpStatus.CREATED);
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update an existing todo")
-    public ResponseEntity<Todo> updateTodo(@PathVariable Long id, @Valid @RequestBody Todo todo) {
+    public ResponseEntity<TodoResponse> updateTodo(@PathVariable Long id, @Valid @RequestBody Todo todo) {
         return ResponseEntity.ok(todoService.updateTodo(id, todo));
     }
 
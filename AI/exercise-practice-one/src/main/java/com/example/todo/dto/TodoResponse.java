@@ -0,0 +1,19 @@
+package com.example.todo.dto;
+
+import com.example.todo.model.Todo;
+import com.example.todo.model.TodoStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model returned by the todo endpoints, selected directly by the
+ * repository's constructor projections instead of loading managed entities
+ */
+public record TodoResponse(Long id, String title, String description, TodoStatus status,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public static TodoResponse from(Todo todo) {
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getDescription(), todo.getStatus(),
+                todo.getCreatedAt(), todo.getUpdatedAt());
+    }
+}
@@ -1,9 +1,23 @@
 package com.example.todo.repository;
 
+import com.example.todo.dto.TodoResponse;
 import com.example.todo.model.Todo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface TodoRepository extends JpaRepository<Todo, Long> {
-} 
\ No newline at end of file
+
+    @Query("SELECT new com.example.todo.dto.TodoResponse(t.id, t.title, t.description, t.status, "
+            + "t.createdAt, t.updatedAt) FROM Todo t")
+    List<TodoResponse> findAllResponses();
+
+    @Query("SELECT new com.example.todo.dto.TodoResponse(t.id, t.title, t.description, t.status, "
+            + "t.createdAt, t.updatedAt) FROM Todo t WHERE t.id = :id")
+    Optional<TodoResponse> findResponseById(@Param("id") Long id);
+}
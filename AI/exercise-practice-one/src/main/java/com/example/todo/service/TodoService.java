@@ -1,12 +1,13 @@
 package com.example.todo.service;
 
+import com.example.todo.dto.TodoResponse;
 import com.example.todo.model.Todo;
 import java.util.List;
 
 public interface TodoService {
-    List<Todo> getAllTodos();
-    Todo getTodoById(Long id);
-    Todo createTodo(Todo todo);
-    Todo updateTodo(Long id, Todo todo);
+    List<TodoResponse> getAllTodos();
+    TodoResponse getTodoById(Long id);
+    TodoResponse createTodo(Todo todo);
+    TodoResponse updateTodo(Long id, Todo todo);
     void deleteTodo(Long id);
-} 
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.example.todo.service;
 
+import com.example.todo.dto.TodoResponse;
 import com.example.todo.exception.TodoNotFoundException;
 import com.example.todo.model.Todo;
 import com.example.todo.repository.TodoRepository;
@@ -18,31 +19,32 @@ public class TodoServiceImpl implements TodoService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Todo> getAllTodos() {
-        return todoRepository.findAll();
+    public List<TodoResponse> getAllTodos() {
+        return todoRepository.findAllResponses();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Todo getTodoById(Long id) {
-        return todoRepository.findById(id)
+    public TodoResponse getTodoById(Long id) {
+        return todoRepository.findResponseById(id)
                 .orElseThrow(() -> new TodoNotFoundException(id));
     }
 
     @Override
-    public Todo createTodo(Todo todo) {
-        return todoRepository.save(todo);
+    public TodoResponse createTodo(Todo todo) {
+        return TodoResponse.from(todoRepository.save(todo));
     }
 
     @Override
-    public Todo updateTodo(Long id, Todo todoDetails) {
-        Todo todo = getTodoById(id);
-        
+    public TodoResponse updateTodo(Long id, Todo todoDetails) {
+        Todo todo = todoRepository.findById(id)
+                .orElseThrow(() -> new TodoNotFoundException(id));
+
         todo.setTitle(todoDetails.getTitle());
         todo.setDescription(todoDetails.getDescription());
         todo.setStatus(todoDetails.getStatus());
         
-        return todoRepository.save(todo);
+        return TodoResponse.from(todoRepository.saveAndFlush(todo));
     }
 
     @Override
@@ -0,0 +1,35 @@
+package com.usermanagement.api.config;
+
+import com.usermanagement.api.repositories.UserRepository;
+import com.usermanagement.api.services.EmailBloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * Streams every stored email into the {@link EmailBloomFilter} once the application is ready.
+ * If loading fails the filter stays unloaded and every lookup falls through to the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailBloomFilterInitializer {
+
+    private final UserRepository userRepository;
+    private final EmailBloomFilter emailBloomFilter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadEmails() {
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emailBloomFilter.load(emails);
+        } catch (Exception e) {
+            log.error("Failed to load email Bloom filter, existence checks will hit the database", e);
+        }
+    }
+}
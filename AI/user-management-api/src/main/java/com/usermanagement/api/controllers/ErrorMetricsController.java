@@ -0,0 +1,30 @@
+package com.usermanagement.api.controllers;
+
+import com.usermanagement.api.exceptions.GlobalExceptionHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Error response telemetry for operators
+ * Requires ADMIN role for access
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+public class ErrorMetricsController {
+
+    private final GlobalExceptionHandler globalExceptionHandler;
+
+    /**
+     * Error responses sent per error type since startup
+     */
+    @GetMapping("/errors")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Long>> getErrorCounts() {
+        return ResponseEntity.ok(globalExceptionHandler.getErrorCounts());
+    }
+}
@@ -1,6 +1,9 @@
 package com.usermanagement.api.controllers;
 
 import com.usermanagement.api.models.User;
+import com.usermanagement.api.patterns.factory.ConnectionPoolStats;
+import com.usermanagement.api.patterns.observer.ListenerDispatchStats;
+import com.usermanagement.api.patterns.observer.ListenerGuardStats;
 import com.usermanagement.api.patterns.observer.UserEvent;
 import com.usermanagement.api.services.PatternDemoService;
 import lombok.RequiredArgsConstructor;
@@ -113,4 +116,28 @@ public class PatternDemoController {
         int count = patternDemoService.getEventListenerCount();
         return ResponseEntity.ok(count);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Get active, idle and waiting counts of the factory connection pools
+     */
+    @GetMapping("/factory/pools")
+    public ResponseEntity<List<ConnectionPoolStats>> getConnectionPoolStats() {
+        return ResponseEntity.ok(patternDemoService.getConnectionPoolStats());
+    }
+    
+    /**
+     * Get queue depth and lag per asynchronous event listener
+     */
+    @GetMapping("/observer/stats")
+    public ResponseEntity<List<ListenerDispatchStats>> getEventDispatchStats() {
+        return ResponseEntity.ok(patternDemoService.getEventDispatchStats());
+    }
+    
+    /**
+     * Get circuit state, timeouts and latency percentiles per event listener
+     */
+    @GetMapping("/observer/guards")
+    public ResponseEntity<List<ListenerGuardStats>> getListenerGuardStats() {
+        return ResponseEntity.ok(patternDemoService.getListenerGuardStats());
+    }
+}
@@ -0,0 +1,29 @@
+package com.usermanagement.api.controllers;
+
+import com.usermanagement.api.features.pool.ConnectionPoolMonitor;
+import com.usermanagement.api.features.pool.dto.PoolMetricsSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Connection pool telemetry for operators
+ * Requires ADMIN role for access
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+public class PoolMetricsController {
+
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+
+    /**
+     * Pool occupancy, acquisition latency, usage per repository method and the recommended pool size
+     */
+    @GetMapping("/pool")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PoolMetricsSnapshot> getPoolMetrics() {
+        return ResponseEntity.ok(connectionPoolMonitor.snapshot());
+    }
+}
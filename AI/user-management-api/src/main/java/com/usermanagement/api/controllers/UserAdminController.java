@@ -0,0 +1,62 @@
+package com.usermanagement.api.controllers;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.dto.UserRegistrationRequest;
+import com.usermanagement.api.features.admin.BatchUserValidationService;
+import com.usermanagement.api.features.admin.BulkUserAdminService;
+import com.usermanagement.api.features.admin.dto.BatchValidationReport;
+import com.usermanagement.api.features.admin.dto.BulkOperationResult;
+import com.usermanagement.api.models.enums.Role;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Administrative bulk operations on users selected by a filter
+ * Requires ADMIN role for access
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@Slf4j
+public class UserAdminController {
+
+    private final BulkUserAdminService bulkUserAdminService;
+    private final BatchUserValidationService batchUserValidationService;
+
+    @PostMapping("/bulk/enable")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkOperationResult> enableUsers(@RequestBody UserFilter filter) {
+        return ResponseEntity.ok(bulkUserAdminService.enable(filter));
+    }
+
+    @PostMapping("/bulk/disable")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkOperationResult> disableUsers(@RequestBody UserFilter filter) {
+        return ResponseEntity.ok(bulkUserAdminService.disable(filter));
+    }
+
+    @PostMapping("/bulk/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkOperationResult> changeRole(
+            @RequestParam Role role,
+            @RequestBody UserFilter filter) {
+        return ResponseEntity.ok(bulkUserAdminService.changeRole(filter, role));
+    }
+
+    @PostMapping("/bulk/delete")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkOperationResult> deleteUsers(@RequestBody UserFilter filter) {
+        return ResponseEntity.ok(bulkUserAdminService.delete(filter));
+    }
+
+    @PostMapping("/validate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BatchValidationReport> validateUsers(@RequestBody List<UserRegistrationRequest> users) {
+        return ResponseEntity.ok(batchUserValidationService.validate(users));
+    }
+}
@@ -1,8 +1,12 @@
 package com.usermanagement.api.controllers;
 
+import com.usermanagement.api.dto.UserFilter;
 import com.usermanagement.api.features.analytics.UserAnalyticsService;
+import com.usermanagement.api.features.analytics.UserColumnarSnapshot;
 import com.usermanagement.api.features.analytics.dto.AnalyticsExport;
+import com.usermanagement.api.features.analytics.dto.SnapshotStats;
 import com.usermanagement.api.features.analytics.dto.UserAnalyticsDashboard;
+import com.usermanagement.api.utils.UserAnalysisResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +37,7 @@ import java.util.Map;
 public class UserAnalyticsController {
     
     private final UserAnalyticsService analyticsService;
+    private final UserColumnarSnapshot userSnapshot;
     
     /**
      * Get comprehensive analytics dashboard
@@ -240,6 +245,51 @@ public class UserAnalyticsController {
         }
     }
     
+    /**
+     * Analyse the users matching the query filters in a single streamed pass
+     * Requires ADMIN role for access
+     */
+    @GetMapping("/analysis")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserAnalysisResult> analyzeUsers(UserFilter filter) {
+        log.info("Analysing users matching {}", filter);
+        
+        try {
+            return ResponseEntity.ok(analyticsService.analyzeUsers(filter));
+        } catch (Exception e) {
+            log.error("Error analysing users", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Same analysis over the in-memory columnar snapshot; may lag recent changes
+     * by the snapshot refresh interval
+     * Requires ADMIN role for access
+     */
+    @GetMapping("/analysis/snapshot")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserAnalysisResult> analyzeSnapshot(UserFilter filter) {
+        log.info("Analysing snapshot users matching {}", filter);
+        
+        try {
+            return ResponseEntity.ok(userSnapshot.analyze(filter));
+        } catch (Exception e) {
+            log.error("Error analysing user snapshot", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+    
+    /**
+     * Get size and freshness of the columnar snapshot
+     * Requires ADMIN role for access
+     */
+    @GetMapping("/snapshot")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SnapshotStats> getSnapshotStats() {
+        return ResponseEntity.ok(userSnapshot.getStats());
+    }
+    
     /**
      * Health check for analytics service
      */
@@ -1,41 +1,106 @@
 package com.usermanagement.api.controllers;
 
+import com.usermanagement.api.dto.UserPatchRequest;
 import com.usermanagement.api.dto.UserRegistrationRequest;
+import com.usermanagement.api.dto.UserResponse;
 import com.usermanagement.api.models.User;
+import com.usermanagement.api.services.OptimisticLockRetry;
 import com.usermanagement.api.services.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+/**
+ * User endpoints. Responses carry the entity version as ETag; writes accept
+ * If-Match to reject stale updates with 412. Writes without If-Match are
+ * retried on concurrent modification. Bodies are {@link UserResponse} read
+ * models, never the entity.
+ */
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final OptimisticLockRetry optimisticLockRetry;
 
     @GetMapping("/me")
-    public ResponseEntity<User> getCurrentUser(@RequestParam String email) {
-        return ResponseEntity.ok(userService.findByEmail(email));
+    public ResponseEntity<UserResponse> getCurrentUser(@RequestParam String email) {
+        return withETag(userService.findResponseByEmail(email));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<User> updateUser(
+    public ResponseEntity<UserResponse> updateUser(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UserRegistrationRequest request) {
         User user = new User();
         user.setEmail(request.getEmail());
-        user.setPassword(request.getPassword());
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
 
-        return ResponseEntity.ok(userService.updateUser(id, user));
+        Long expectedVersion = parseIfMatch(ifMatch);
+        if (expectedVersion != null) {
+            return withETag(userService.updateUser(id, user, expectedVersion));
+        }
+        return withETag(optimisticLockRetry.execute(() -> userService.updateUser(id, user)));
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<UserResponse> patchUser(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody UserPatchRequest request) {
+        Long expectedVersion = parseIfMatch(ifMatch);
+        if (expectedVersion != null) {
+            return withETag(userService.patchUser(id, request, expectedVersion));
+        }
+        return withETag(optimisticLockRetry.execute(() -> userService.patchUser(id, request)));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
-        userService.deleteUser(id);
+    public ResponseEntity<Void> deleteUser(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = parseIfMatch(ifMatch);
+        if (expectedVersion != null) {
+            userService.deleteUser(id, expectedVersion);
+        } else {
+            optimisticLockRetry.execute(() -> userService.deleteUser(id));
+        }
         return ResponseEntity.ok().build();
     }
-} 
\ No newline at end of file
+
+    private ResponseEntity<UserResponse> withETag(User user) {
+        return withETag(UserResponse.from(user));
+    }
+
+    private ResponseEntity<UserResponse> withETag(UserResponse user) {
+        if (user.version() == null) {
+            return ResponseEntity.ok(user);
+        }
+        return ResponseEntity.ok().eTag(String.valueOf(user.version())).body(user);
+    }
+
+    /**
+     * Parse an If-Match header holding a single version ETag ("3" or W/"3").
+     * A missing header or "*" means no version precondition.
+     */
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.usermanagement.api.dto;
+
+import lombok.Value;
+
+/**
+ * Number of users per email domain, as aggregated by the database
+ */
+@Value
+public class DomainCount {
+    String domain;
+    long userCount;
+}
@@ -0,0 +1,40 @@
+package com.usermanagement.api.dto;
+
+import com.usermanagement.api.models.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Typed filter over the users table. Every criterion is optional;
+ * unset criteria do not restrict the result.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserFilter {
+    private Role role;
+    private Boolean enabled;
+    private String emailDomain;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAfter;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdBefore;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedAfter;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime inactiveSince;
+
+    /**
+     * @return true if no criterion is set, i.e. the filter matches every user
+     */
+    public boolean isEmpty() {
+        return role == null && enabled == null && emailDomain == null
+                && createdAfter == null && createdBefore == null && updatedAfter == null && inactiveSince == null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.usermanagement.api.dto;
+
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * What the user endpoints return: the profile columns and the version used as
+ * ETag, never the password hash. Reads select exactly these columns through a
+ * constructor projection; writes map the entity they already hold.
+ */
+public record UserResponse(Long id, String email, String firstName, String lastName, Role role,
+                           boolean enabled, LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+
+    public static UserResponse from(User user) {
+        return new UserResponse(user.getId(), user.getEmail(), user.getFirstName(), user.getLastName(),
+                user.getRole(), user.isEnabled(), user.getCreatedAt(), user.getUpdatedAt(), user.getVersion());
+    }
+}
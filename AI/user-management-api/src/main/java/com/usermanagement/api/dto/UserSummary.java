@@ -0,0 +1,23 @@
+package com.usermanagement.api.dto;
+
+import com.usermanagement.api.models.enums.Role;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a user for listings; never carries the password hash
+ */
+@Value
+@Builder
+public class UserSummary {
+    Long id;
+    String email;
+    String firstName;
+    String lastName;
+    Role role;
+    boolean enabled;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
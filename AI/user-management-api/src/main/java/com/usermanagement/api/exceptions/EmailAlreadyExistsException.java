@@ -1,7 +1,11 @@
 package com.usermanagement.api.exceptions;
 
+/**
+ * Stackless: it is an expected outcome mapped straight to a 409, so capturing a
+ * stack trace on every rejected registration would be wasted work
+ */
 public class EmailAlreadyExistsException extends RuntimeException {
     public EmailAlreadyExistsException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-} 
\ No newline at end of file
+}
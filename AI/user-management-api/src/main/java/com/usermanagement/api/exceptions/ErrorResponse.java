@@ -0,0 +1,27 @@
+package com.usermanagement.api.exceptions;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Body of every error response. Being one fixed type, Jackson resolves its
+ * serializer once and reuses it, where a generic map needs a serializer lookup
+ * per entry value.
+ *
+ * @param errors Per-field messages, only present for validation failures
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ErrorResponse(LocalDateTime timestamp, int status, String error, String message,
+                            Map<String, String> errors) {
+
+    static ErrorResponse of(ErrorType type, String message) {
+        return of(type, message, null);
+    }
+
+    static ErrorResponse of(ErrorType type, String message, Map<String, String> errors) {
+        return new ErrorResponse(LocalDateTime.now(), type.getStatus().value(),
+                type.getStatus().getReasonPhrase(), message, errors);
+    }
+}
@@ -0,0 +1,27 @@
+package com.usermanagement.api.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Every error {@link GlobalExceptionHandler} answers with, each counted separately
+ */
+public enum ErrorType {
+    EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT),
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND),
+    VERSION_CONFLICT(HttpStatus.PRECONDITION_FAILED),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT),
+    BAD_REQUEST(HttpStatus.BAD_REQUEST),
+    ACCESS_DENIED(HttpStatus.FORBIDDEN),
+    VALIDATION_FAILED(HttpStatus.BAD_REQUEST),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private final HttpStatus status;
+
+    ErrorType(HttpStatus status) {
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
@@ -1,71 +1,136 @@
 package com.usermanagement.api.exceptions;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
-import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Maps exceptions to {@link ErrorResponse} bodies and counts the responses per
+ * {@link ErrorType}. Counters are preallocated per type, so counting never
+ * allocates on the error path.
+ */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String CONCURRENT_MODIFICATION_MESSAGE = "The resource was modified concurrently, please retry";
+    private static final String EMAIL_TAKEN_MESSAGE = "Email already exists";
+
+    private final Map<ErrorType, LongAdder> counters = new EnumMap<>(ErrorType.class);
+
+    public GlobalExceptionHandler() {
+        for (ErrorType type : ErrorType.values()) {
+            counters.put(type, new LongAdder());
+        }
+    }
+
     @ExceptionHandler(EmailAlreadyExistsException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
-    public ResponseEntity<Map<String, Object>> handleEmailAlreadyExistsException(EmailAlreadyExistsException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.CONFLICT.value());
-        body.put("error", "Conflict");
-        body.put("message", ex.getMessage());
-        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    public ResponseEntity<ErrorResponse> handleEmailAlreadyExistsException(EmailAlreadyExistsException ex) {
+        return respond(ErrorType.EMAIL_ALREADY_EXISTS, ex.getMessage());
     }
 
     @ExceptionHandler(UserNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
-    public ResponseEntity<Map<String, Object>> handleUserNotFoundException(UserNotFoundException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.NOT_FOUND.value());
-        body.put("error", "Not Found");
-        body.put("message", ex.getMessage());
-        return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+    public ResponseEntity<ErrorResponse> handleUserNotFoundException(UserNotFoundException ex) {
+        return respond(ErrorType.USER_NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ResponseEntity<ErrorResponse> handleVersionConflictException(VersionConflictException ex) {
+        return respond(ErrorType.VERSION_CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex) {
+        return respond(ErrorType.CONCURRENT_MODIFICATION, CONCURRENT_MODIFICATION_MESSAGE);
+    }
+
+    /**
+     * A write that lost the race for an email is rejected by the unique
+     * constraint on users.email; to the client that is still a 409
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        if (isUniqueEmailViolation(ex)) {
+            return respond(ErrorType.EMAIL_ALREADY_EXISTS, EMAIL_TAKEN_MESSAGE);
+        }
+        return handleGenericException(ex);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        return respond(ErrorType.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
+        return respond(ErrorType.ACCESS_DENIED, "Access denied");
     }
 
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        body.put("error", "Internal Server Error");
-        body.put("message", ex.getMessage());
-        return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        return respond(ErrorType.INTERNAL_ERROR, ex.getMessage());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
-        Map<String, Object> body = new HashMap<>();
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
-        
+
         ex.getBindingResult().getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
         });
-        
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        body.put("error", "Bad Request");
-        body.put("message", "Validation failed");
-        body.put("errors", errors);
-        
-        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+
+        counters.get(ErrorType.VALIDATION_FAILED).increment();
+        return new ResponseEntity<>(ErrorResponse.of(ErrorType.VALIDATION_FAILED, "Validation failed", errors),
+                ErrorType.VALIDATION_FAILED.getStatus());
+    }
+
+    /**
+     * Number of responses sent per error type since startup
+     */
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counters.forEach((type, counter) -> counts.put(type.name(), counter.sum()));
+        return counts;
+    }
+
+    /**
+     * PostgreSQL names the constraint users_email_key, H2 lists the indexed USERS(EMAIL) column
+     */
+    private static boolean isUniqueEmailViolation(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        if (message == null) {
+            return false;
+        }
+        String lower = message.toLowerCase(Locale.ROOT);
+        return lower.contains("email") && (lower.contains("unique") || lower.contains("duplicate key"));
+    }
+
+    private ResponseEntity<ErrorResponse> respond(ErrorType type, String message) {
+        counters.get(type).increment();
+        return new ResponseEntity<>(ErrorResponse.of(type, message), type.getStatus());
     }
-} 
\ No newline at end of file
+}
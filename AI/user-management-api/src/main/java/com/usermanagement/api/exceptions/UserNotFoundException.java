@@ -1,7 +1,11 @@
 package com.usermanagement.api.exceptions;
 
+/**
+ * Stackless: it is an expected outcome mapped straight to a 404, so capturing a
+ * stack trace on every lookup miss would be wasted work
+ */
 public class UserNotFoundException extends RuntimeException {
     public UserNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-} 
\ No newline at end of file
+}
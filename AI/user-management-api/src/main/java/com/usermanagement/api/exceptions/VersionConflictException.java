@@ -0,0 +1,11 @@
+package com.usermanagement.api.exceptions;
+
+/**
+ * Stackless: a stale If-Match is an expected outcome mapped straight to a 412,
+ * so capturing a stack trace on every mismatch would be wasted work
+ */
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,239 @@
+package com.usermanagement.api.features.admin;
+
+import com.usermanagement.api.dto.UserRegistrationRequest;
+import com.usermanagement.api.features.admin.dto.BatchValidationReport;
+import com.usermanagement.api.modern.UserValidationService;
+import com.usermanagement.api.modern.ValidationError;
+import com.usermanagement.api.repositories.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Validates a whole batch of registrations in one call without writing anything.
+ *
+ * Field checks run through {@link UserValidationService#validateUser}, split into
+ * chunks on a dedicated {@link ForkJoinPool} once the batch reaches chunk-size.
+ * Emails appearing more than once in the batch are flagged on every occurrence.
+ * Emails that are already registered are found with one IN query per
+ * lookup-chunk-size distinct well-formed emails instead of one existsByEmail
+ * per record. Every such email is looked up: the node-local Bloom filter can
+ * miss emails registered elsewhere, so it is not trusted to rule any out.
+ */
+@Service
+@Slf4j
+public class BatchUserValidationService {
+
+    private static final List<String> ERROR_CODES = codes();
+
+    private final UserValidationService validationService;
+    private final UserRepository userRepository;
+    private final int maxSize;
+    private final int chunkSize;
+    private final int lookupChunkSize;
+    private final ForkJoinPool forkJoinPool;
+
+    public BatchUserValidationService(UserValidationService validationService,
+                                      UserRepository userRepository,
+                                      @Value("${users.validation.batch.max-size:10000}") int maxSize,
+                                      @Value("${users.validation.batch.chunk-size:1000}") int chunkSize,
+                                      @Value("${users.validation.batch.lookup-chunk-size:1000}") int lookupChunkSize,
+                                      @Value("${users.validation.batch.parallelism:0}") int parallelism) {
+        this.validationService = validationService;
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.lookupChunkSize = Math.max(lookupChunkSize, 1);
+        this.forkJoinPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdown();
+    }
+
+    /**
+     * Validate every record of the batch
+     * @param records Registrations to check, in request order
+     * @return One error bitmap per record plus totals
+     * @throws IllegalArgumentException if the batch is larger than max-size
+     */
+    @Transactional(readOnly = true)
+    public BatchValidationReport validate(List<UserRegistrationRequest> records) {
+        if (records.size() > maxSize) {
+            throw new IllegalArgumentException(
+                    "Batch of " + records.size() + " records exceeds the limit of " + maxSize);
+        }
+        long start = System.nanoTime();
+        int[] errors = new int[records.size()];
+
+        if (records.size() >= chunkSize * 2) {
+            forkJoinPool.invoke(new ChunkTask(records, errors, 0, records.size()));
+        } else {
+            validateRange(records, errors, 0, records.size());
+        }
+        markDuplicates(records, errors);
+        markTaken(records, errors);
+
+        BatchValidationReport report = report(errors, (System.nanoTime() - start) / 1_000_000);
+        log.info("Validated batch of {} records: {} invalid in {} ms",
+                report.getTotal(), report.getInvalid(), report.getDurationMillis());
+        return report;
+    }
+
+    private void validateRange(List<UserRegistrationRequest> records, int[] errors, int from, int to) {
+        for (int i = from; i < to; i++) {
+            UserRegistrationRequest record = records.get(i);
+            errors[i] = record == null
+                    ? validationService.validateUser(null, null, null, null)
+                    : validationService.validateUser(record.getEmail(), record.getPassword(),
+                            record.getFirstName(), record.getLastName());
+        }
+    }
+
+    /**
+     * Flag every record whose email is shared with another record of the batch
+     */
+    private void markDuplicates(List<UserRegistrationRequest> records, int[] errors) {
+        Map<String, Integer> firstIndex = new HashMap<>(records.size() * 2);
+        for (int i = 0; i < records.size(); i++) {
+            String email = emailOf(records, errors, i);
+            if (email == null) {
+                continue;
+            }
+            Integer first = firstIndex.putIfAbsent(email, i);
+            if (first != null) {
+                errors[first] |= ValidationError.EMAIL_DUPLICATE_IN_BATCH.mask();
+                errors[i] |= ValidationError.EMAIL_DUPLICATE_IN_BATCH.mask();
+            }
+        }
+    }
+
+    /**
+     * Flag every record whose email already belongs to a user
+     */
+    private void markTaken(List<UserRegistrationRequest> records, int[] errors) {
+        Set<String> candidates = new HashSet<>();
+        for (int i = 0; i < records.size(); i++) {
+            String email = emailOf(records, errors, i);
+            if (email != null) {
+                candidates.add(email);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> taken = new HashSet<>();
+        List<String> chunk = new ArrayList<>(Math.min(candidates.size(), lookupChunkSize));
+        for (String email : candidates) {
+            chunk.add(email);
+            if (chunk.size() == lookupChunkSize) {
+                taken.addAll(userRepository.findExistingEmails(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            taken.addAll(userRepository.findExistingEmails(chunk));
+        }
+        if (taken.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            String email = emailOf(records, errors, i);
+            if (email != null && taken.contains(email)) {
+                errors[i] |= ValidationError.EMAIL_TAKEN.mask();
+            }
+        }
+    }
+
+    /**
+     * The record's email, or null if it is missing or malformed and so cannot clash
+     */
+    private static String emailOf(List<UserRegistrationRequest> records, int[] errors, int index) {
+        int emailErrors = ValidationError.EMAIL_REQUIRED.mask() | ValidationError.EMAIL_INVALID.mask();
+        if ((errors[index] & emailErrors) != 0) {
+            return null;
+        }
+        return records.get(index).getEmail();
+    }
+
+    private static BatchValidationReport report(int[] errors, long durationMillis) {
+        int[] perCode = new int[ERROR_CODES.size()];
+        int invalid = 0;
+        for (int bits : errors) {
+            if (bits != 0) {
+                invalid++;
+                for (int remaining = bits; remaining != 0; remaining &= remaining - 1) {
+                    perCode[Integer.numberOfTrailingZeros(remaining)]++;
+                }
+            }
+        }
+        Map<String, Integer> errorCounts = new LinkedHashMap<>();
+        for (int code = 0; code < perCode.length; code++) {
+            if (perCode[code] > 0) {
+                errorCounts.put(ERROR_CODES.get(code), perCode[code]);
+            }
+        }
+
+        return BatchValidationReport.builder()
+                .total(errors.length)
+                .valid(errors.length - invalid)
+                .invalid(invalid)
+                .errors(errors)
+                .errorCodes(ERROR_CODES)
+                .errorCounts(errorCounts)
+                .durationMillis(durationMillis)
+                .build();
+    }
+
+    private static List<String> codes() {
+        List<String> codes = new ArrayList<>();
+        for (ValidationError error : ValidationError.values()) {
+            codes.add(error.name());
+        }
+        return List.copyOf(codes);
+    }
+
+    /**
+     * Validates records[from, to), splitting in halves down to chunk-size; each
+     * chunk writes only its own slots of the shared bitmap array
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+        private final List<UserRegistrationRequest> records;
+        private final int[] errors;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(List<UserRegistrationRequest> records, int[] errors, int from, int to) {
+            this.records = records;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                validateRange(records, errors, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(records, errors, from, mid), new ChunkTask(records, errors, mid, to));
+        }
+    }
+}
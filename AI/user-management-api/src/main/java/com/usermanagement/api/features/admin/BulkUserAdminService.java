@@ -0,0 +1,128 @@
+package com.usermanagement.api.features.admin;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.features.admin.dto.BulkOperation;
+import com.usermanagement.api.features.admin.dto.BulkOperationResult;
+import com.usermanagement.api.features.outbox.UserEventOutbox;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+import com.usermanagement.api.patterns.observer.UserEvent;
+import com.usermanagement.api.repositories.UserRepository;
+import com.usermanagement.api.repositories.UserSpecifications;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bulk administrative operations on the users matching a {@link UserFilter}.
+ *
+ * Matching users are processed in keyset-ordered chunks. Each chunk is one id
+ * lookup plus one set-based UPDATE/DELETE in its own short transaction, so row
+ * locks are held for at most one chunk. User events for a chunk are written to
+ * the outbox in the same transaction and relayed once the chunk has committed.
+ */
+@Service
+@Slf4j
+public class BulkUserAdminService {
+
+    private final UserRepository userRepository;
+    private final UserEventOutbox userEventOutbox;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    public BulkUserAdminService(UserRepository userRepository,
+                                UserEventOutbox userEventOutbox,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${users.bulk.chunk-size:1000}") int chunkSize,
+                                @Value("${users.bulk.chunk-timeout-seconds:5}") int chunkTimeoutSeconds) {
+        this.userRepository = userRepository;
+        this.userEventOutbox = userEventOutbox;
+        this.chunkSize = chunkSize;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setTimeout(chunkTimeoutSeconds);
+    }
+
+    public BulkOperationResult enable(UserFilter filter) {
+        return run(BulkOperation.ENABLE, filter, UserEvent.UserEventType.ACCOUNT_UNLOCKED,
+                ids -> userRepository.updateEnabledByIdIn(ids, true, LocalDateTime.now()));
+    }
+
+    public BulkOperationResult disable(UserFilter filter) {
+        return run(BulkOperation.DISABLE, filter, UserEvent.UserEventType.ACCOUNT_LOCKED,
+                ids -> userRepository.updateEnabledByIdIn(ids, false, LocalDateTime.now()));
+    }
+
+    public BulkOperationResult changeRole(UserFilter filter, Role role) {
+        if (role == null) {
+            throw new IllegalArgumentException("Target role is required");
+        }
+        return run(BulkOperation.CHANGE_ROLE, filter, UserEvent.UserEventType.USER_UPDATED,
+                ids -> userRepository.updateRoleByIdIn(ids, role, LocalDateTime.now()));
+    }
+
+    public BulkOperationResult delete(UserFilter filter) {
+        return run(BulkOperation.DELETE, filter, UserEvent.UserEventType.USER_DELETED,
+                userRepository::deleteByIdIn);
+    }
+
+    private BulkOperationResult run(BulkOperation operation, UserFilter filter,
+                                    UserEvent.UserEventType eventType,
+                                    ToIntFunction<List<Long>> statement) {
+        if (filter == null || filter.isEmpty()) {
+            throw new IllegalArgumentException("At least one filter criterion is required for bulk operations");
+        }
+        log.info("Starting bulk {} for filter {}", operation, filter);
+
+        long start = System.currentTimeMillis();
+        Specification<User> spec = UserSpecifications.matching(filter);
+        String description = "Bulk " + operation.name().toLowerCase();
+        long lastId = 0L;
+        long affected = 0L;
+        int chunks = 0;
+
+        while (true) {
+            long afterId = lastId;
+            ChunkResult chunk = chunkTransaction.execute(status -> {
+                List<User> keys = userRepository.findKeysAfter(spec, afterId, chunkSize);
+                if (keys.isEmpty()) {
+                    return null;
+                }
+                List<Long> ids = keys.stream().map(User::getId).toList();
+                int rows = statement.applyAsInt(ids);
+                userEventOutbox.recordAll(eventType, keys, description);
+                return new ChunkResult(keys, rows);
+            });
+            if (chunk == null) {
+                break;
+            }
+
+            chunks++;
+            affected += chunk.affected();
+            lastId = chunk.keys().get(chunk.keys().size() - 1).getId();
+
+            if (chunk.keys().size() < chunkSize) {
+                break;
+            }
+        }
+
+        long duration = System.currentTimeMillis() - start;
+        log.info("Bulk {} affected {} users in {} chunks ({} ms)", operation, affected, chunks, duration);
+        return BulkOperationResult.builder()
+                .operation(operation)
+                .affectedUsers(affected)
+                .chunks(chunks)
+                .durationMillis(duration)
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private record ChunkResult(List<User> keys, int affected) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.usermanagement.api.features.admin;
+
+import com.usermanagement.api.models.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills users.email_domain for rows written before the column existed.
+ *
+ * Walks the rows still missing a domain in id order, batch-size rows per
+ * transaction, computing the domain with {@link User#emailDomainOf(String)} so
+ * it matches what the application writes. The update only applies while the
+ * email is unchanged, so a concurrent email change is never overwritten with a
+ * stale domain. The job keeps polling, since nodes still running a release from
+ * before V5 write rows without a domain; once the table is clean each poll is a
+ * single IS NULL lookup on the email_domain index.
+ */
+@Component
+@Slf4j
+public class EmailDomainBackfill {
+
+    private static final String SELECT_MISSING = "SELECT id, email FROM users "
+            + "WHERE email_domain IS NULL AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_DOMAIN = "UPDATE users SET email_domain = ? "
+            + "WHERE id = ? AND email = ? AND email_domain IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public EmailDomainBackfill(DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${users.email-domain.backfill.enabled:true}") boolean enabled,
+                               @Value("${users.email-domain.backfill.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${users.email-domain.backfill.initial-delay-millis:30000}",
+            fixedDelayString = "${users.email-domain.backfill.interval-millis:60000}")
+    public void poll() {
+        if (enabled) {
+            backfill();
+        }
+    }
+
+    /**
+     * Backfill every row missing a domain
+     * @return Number of rows updated
+     */
+    public long backfill() {
+        long lastId = 0L;
+        long updated = 0L;
+        int batches = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Row> rows = jdbcTemplate.query(SELECT_MISSING,
+                    (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("email")), afterId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            Integer applied = transactionTemplate.execute(status -> applyBatch(rows));
+            updated += applied == null ? 0 : applied;
+            batches++;
+            lastId = rows.get(rows.size() - 1).id();
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+        if (updated > 0) {
+            log.info("Backfilled email_domain for {} users in {} batches", updated, batches);
+        }
+        return updated;
+    }
+
+    private int applyBatch(List<Row> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            String domain = User.emailDomainOf(row.email());
+            if (domain != null) {
+                args.add(new Object[]{domain, row.id(), row.email()});
+            }
+        }
+        int applied = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_DOMAIN, args)) {
+            applied += Math.max(count, 0);
+        }
+        return applied;
+    }
+
+    private record Row(long id, String email) {
+    }
+}
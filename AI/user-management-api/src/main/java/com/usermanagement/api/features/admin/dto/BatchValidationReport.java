@@ -0,0 +1,23 @@
+package com.usermanagement.api.features.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of validating a batch of users. {@code errors[i]} is the error bitmap
+ * of record i: bit n set means {@code errorCodes.get(n)} applies, 0 means valid.
+ */
+@Data
+@Builder
+public class BatchValidationReport {
+    private int total;
+    private int valid;
+    private int invalid;
+    private int[] errors;
+    private List<String> errorCodes;
+    private Map<String, Integer> errorCounts;
+    private long durationMillis;
+}
@@ -0,0 +1,8 @@
+package com.usermanagement.api.features.admin.dto;
+
+public enum BulkOperation {
+    ENABLE,
+    DISABLE,
+    CHANGE_ROLE,
+    DELETE
+}
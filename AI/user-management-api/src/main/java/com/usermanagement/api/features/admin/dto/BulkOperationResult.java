@@ -0,0 +1,16 @@
+package com.usermanagement.api.features.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class BulkOperationResult {
+    private BulkOperation operation;
+    private long affectedUsers;
+    private int chunks;
+    private long durationMillis;
+    private LocalDateTime completedAt;
+}
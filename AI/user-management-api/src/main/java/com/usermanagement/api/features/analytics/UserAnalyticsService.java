@@ -1,11 +1,16 @@
 package com.usermanagement.api.features.analytics;
 
+import com.usermanagement.api.dto.DomainCount;
+import com.usermanagement.api.dto.UserFilter;
 import com.usermanagement.api.features.analytics.dto.*;
 import com.usermanagement.api.models.User;
 import com.usermanagement.api.models.enums.Role;
 import com.usermanagement.api.repositories.UserRepository;
+import com.usermanagement.api.repositories.UserSpecifications;
 import com.usermanagement.api.utils.UserAnalysisResult;
 import com.usermanagement.api.utils.UserDataProcessor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -45,11 +50,29 @@ public class UserAnalyticsService {
     
     private final UserRepository userRepository;
     private final UserDataProcessor userDataProcessor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    /**
+     * Analyse the users matching a filter in one pass over a database cursor.
+     * The filter is evaluated in SQL, so only matching rows are read; each entity
+     * is detached once consumed, so heap use stays flat however large the table is.
+     * @param filter Criteria users must match; an empty filter analyses everyone
+     */
+    @Transactional(readOnly = true)
+    public UserAnalysisResult analyzeUsers(UserFilter filter) {
+        log.info("Analysing users matching {}", filter);
+        return userDataProcessor.processUserStream(
+                userRepository.streamMatching(UserSpecifications.matching(filter)).peek(entityManager::detach),
+                new UserFilter());
+    }
     
     /**
      * Get comprehensive user analytics dashboard data
      */
     @Cacheable(value = "userAnalytics", key = "'dashboard'")
+    @Transactional(readOnly = true)
     public UserAnalyticsDashboard getDashboardAnalytics() {
         log.info("Generating user analytics dashboard data");
         
@@ -71,6 +94,7 @@ public class UserAnalyticsService {
      * Get user growth trends over time
      */
     @Cacheable(value = "userAnalytics", key = "'growthTrends'")
+    @Transactional(readOnly = true)
     public List<GrowthTrendData> getGrowthTrends() {
         log.info("Calculating user growth trends");
         
@@ -141,28 +165,25 @@ public class UserAnalyticsService {
     }
     
     /**
-     * Get geographic distribution based on email domains
+     * Get geographic distribution based on email domains, aggregated by the
+     * database over the indexed email_domain column
      */
     private GeographicDistribution getGeographicDistribution(List<User> users) {
-        Map<String, Long> domainCounts = users.stream()
-                .map(user -> extractEmailDomain(user.getEmail()))
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(domain -> domain, Collectors.counting()));
+        List<DomainCount> domainCounts = userRepository.countUsersByEmailDomain();
         
-        List<DomainData> topDomains = domainCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        List<DomainData> topDomains = domainCounts.stream()
                 .limit(10)
-                .map(entry -> DomainData.builder()
-                        .domain(entry.getKey())
-                        .userCount(entry.getValue().intValue())
-                        .percentage((double) entry.getValue() / users.size() * 100)
+                .map(count -> DomainData.builder()
+                        .domain(count.getDomain())
+                        .userCount((int) count.getUserCount())
+                        .percentage((double) count.getUserCount() / users.size() * 100)
                         .build())
                 .collect(Collectors.toList());
         
         return GeographicDistribution.builder()
                 .topDomains(topDomains)
                 .totalDomains(domainCounts.size())
-                .mostCommonDomain(findMostCommonDomain(domainCounts))
+                .mostCommonDomain(domainCounts.isEmpty() ? "unknown" : domainCounts.get(0).getDomain())
                 .build();
     }
     
@@ -258,6 +279,7 @@ public class UserAnalyticsService {
     /**
      * Export analytics data
      */
+    @Transactional(readOnly = true)
     public AnalyticsExport exportAnalyticsData(String format) {
         log.info("Exporting analytics data in format: {}", format);
         
@@ -271,13 +293,6 @@ public class UserAnalyticsService {
     }
     
     // Helper methods
-    private String extractEmailDomain(String email) {
-        if (email == null || !email.contains("@")) {
-            return null;
-        }
-        return email.substring(email.indexOf("@") + 1).toLowerCase();
-    }
-    
     private double calculateGrowthRate(LocalDateTime start, LocalDateTime end) {
         long previousPeriodUsers = userRepository.countByCreatedAtBefore(start);
         long currentPeriodUsers = userRepository.countByCreatedAtBefore(end);
@@ -296,13 +311,6 @@ public class UserAnalyticsService {
                 .orElse(Role.USER);
     }
     
-    private String findMostCommonDomain(Map<String, Long> domainCounts) {
-        return domainCounts.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse("unknown");
-    }
-    
     private List<RoleGrowthTrend> getRoleGrowthTrends() {
         // Implementation for role growth trends
         return new ArrayList<>();
@@ -0,0 +1,332 @@
+package com.usermanagement.api.features.analytics;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.dto.UserSummary;
+import com.usermanagement.api.features.analytics.dto.SnapshotStats;
+import com.usermanagement.api.patterns.observer.UserEvent;
+import com.usermanagement.api.patterns.observer.UserEventListener;
+import com.usermanagement.api.repositories.UserRepository;
+import com.usermanagement.api.utils.UserAnalysisResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compact columnar copy of the users table for ad-hoc analytics.
+ *
+ * Built on first use by keyset-paging a {@link UserSummary} projection into
+ * {@link UserColumns}, at about {@value UserColumns#BYTES_PER_ROW} bytes per user
+ * instead of a full entity graph. From then on user change events mark ids as
+ * dirty and a scheduled refresh re-reads only those rows, upserting the ones that
+ * still exist and dropping the others.
+ *
+ * Events are only a fast path: some write paths record none, and the outbox
+ * relay delivers each event to a single node. A slower scheduled reconcile
+ * therefore bounds staleness on every node. It re-reads the rows whose
+ * updated_at is at or after the previous pass (less an overlap that covers late
+ * commits and clock skew), every write path keeps updated_at current, and when
+ * the table's row count then differs from the snapshot's it walks the ids to
+ * drop deleted users. Refreshes read inside a read-write
+ * transaction so they are served by the primary, never by a lagging replica.
+ * Scans hold a read lock; refreshes take the write lock only to apply rows
+ * already fetched.
+ */
+@Component
+@Slf4j
+public class UserColumnarSnapshot implements UserEventListener {
+
+    private static final Set<UserEvent.UserEventType> SUBSCRIBED_TYPES = EnumSet.of(
+            UserEvent.UserEventType.USER_REGISTERED,
+            UserEvent.UserEventType.USER_UPDATED,
+            UserEvent.UserEventType.USER_DELETED,
+            UserEvent.UserEventType.ACCOUNT_LOCKED,
+            UserEvent.UserEventType.ACCOUNT_UNLOCKED);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int pageSize;
+    private final long reconcileOverlapMillis;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object refreshMonitor = new Object();
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean tracking;
+    private volatile UserColumns columns;
+    private volatile long rebuildMillis;
+    private volatile LocalDateTime builtAt;
+    private volatile LocalDateTime refreshedAt;
+    private volatile LocalDateTime reconciledAt;
+    private LocalDateTime reconciledThrough;
+
+    public UserColumnarSnapshot(UserRepository userRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${users.analytics.snapshot.page-size:10000}") int pageSize,
+                                @Value("${users.analytics.snapshot.reconcile-overlap-millis:60000}") long reconcileOverlapMillis) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+        this.reconcileOverlapMillis = reconcileOverlapMillis;
+    }
+
+    /**
+     * Analyse the users matching a filter from the snapshot, building it first if needed
+     * @param filter Criteria users must match; an empty filter analyses everyone
+     * @return Same result as analysing the matching users with the UserDataProcessor
+     */
+    public UserAnalysisResult analyze(UserFilter filter) {
+        UserColumns current = columns;
+        if (current == null) {
+            current = buildIfAbsent();
+        }
+        lock.readLock().lock();
+        try {
+            return current.analyze(filter, LocalDateTime.now().minusDays(30));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reload the whole snapshot from the database
+     */
+    public void rebuild() {
+        synchronized (refreshMonitor) {
+            load();
+        }
+    }
+
+    /**
+     * Apply the users changed since the last refresh
+     * @return Number of users re-read
+     */
+    @Scheduled(fixedDelayString = "${users.analytics.snapshot.refresh-interval-millis:1000}")
+    public int refresh() {
+        synchronized (refreshMonitor) {
+            UserColumns current = columns;
+            if (current == null || dirtyIds.isEmpty()) {
+                return 0;
+            }
+
+            List<Long> ids = drainDirtyIds();
+            int refreshed = 0;
+            for (int from = 0; from < ids.size(); from += pageSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + pageSize, ids.size()));
+                List<UserSummary> rows = transactionTemplate.execute(status -> userRepository.findSummariesByIdIn(chunk));
+                Set<Long> missing = new HashSet<>(chunk);
+
+                lock.writeLock().lock();
+                try {
+                    for (UserSummary row : rows) {
+                        current.upsert(row);
+                        missing.remove(row.getId());
+                    }
+                    missing.forEach(current::remove);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                refreshed += chunk.size();
+            }
+            refreshedAt = LocalDateTime.now();
+            log.debug("Refreshed {} users in the snapshot", refreshed);
+            return refreshed;
+        }
+    }
+
+    /**
+     * Re-read the users written since the previous pass and drop deleted ones,
+     * whether or not an event reached this node
+     * @return Number of users upserted or removed
+     */
+    @Scheduled(fixedDelayString = "${users.analytics.snapshot.reconcile-interval-millis:30000}")
+    public int reconcile() {
+        synchronized (refreshMonitor) {
+            UserColumns current = columns;
+            if (current == null) {
+                return 0;
+            }
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime since = reconciledThrough.minus(reconcileOverlapMillis, ChronoUnit.MILLIS);
+
+            int changed = 0;
+            List<UserSummary> page;
+            long afterId = 0L;
+            do {
+                long pageAfter = afterId;
+                page = transactionTemplate.execute(status -> userRepository
+                        .findSummariesByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                                since, pageAfter, PageRequest.of(0, pageSize)));
+                if (!page.isEmpty()) {
+                    lock.writeLock().lock();
+                    try {
+                        page.forEach(current::upsert);
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    afterId = page.get(page.size() - 1).getId();
+                    changed += page.size();
+                }
+            } while (page.size() == pageSize);
+
+            Long total = transactionTemplate.execute(status -> userRepository.count());
+            if (total != null && total != current.liveRows()) {
+                changed += removeDeleted(current);
+            }
+            reconciledThrough = startedAt;
+            reconciledAt = LocalDateTime.now();
+            if (changed > 0) {
+                log.debug("Reconciled {} users in the snapshot", changed);
+            }
+            return changed;
+        }
+    }
+
+    public SnapshotStats getStats() {
+        UserColumns current = columns;
+        if (current == null) {
+            return SnapshotStats.builder().pendingRefreshes(dirtyIds.size()).build();
+        }
+        lock.readLock().lock();
+        try {
+            return SnapshotStats.builder()
+                    .built(true)
+                    .liveRows(current.liveRows())
+                    .tombstones(current.rows() - current.liveRows())
+                    .distinctDomains(current.domains())
+                    .approximateBytes(current.capacityBytes())
+                    .pendingRefreshes(dirtyIds.size())
+                    .rebuildMillis(rebuildMillis)
+                    .builtAt(builtAt)
+                    .refreshedAt(refreshedAt)
+                    .reconciledAt(reconciledAt)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onUserEvent(UserEvent event) {
+        if (tracking && event.getUser() != null && event.getUser().getId() != null) {
+            dirtyIds.add(event.getUser().getId());
+        }
+    }
+
+    @Override
+    public String getListenerName() {
+        return "UserColumnarSnapshot";
+    }
+
+    @Override
+    public Set<UserEvent.UserEventType> getSubscribedEventTypes() {
+        return SUBSCRIBED_TYPES;
+    }
+
+    private UserColumns buildIfAbsent() {
+        synchronized (refreshMonitor) {
+            UserColumns current = columns;
+            return current != null ? current : load();
+        }
+    }
+
+    private UserColumns load() {
+        // Changes committed while we page through the table are applied by the next refresh
+        tracking = true;
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.currentTimeMillis();
+        UserColumns loaded = new UserColumns(pageSize);
+        List<UserSummary> page;
+        do {
+            long afterId = loaded.lastId();
+            page = transactionTemplate.execute(status -> userRepository
+                    .findSummariesByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, pageSize)));
+            page.forEach(loaded::upsert);
+        } while (page.size() == pageSize);
+
+        lock.writeLock().lock();
+        try {
+            columns = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        reconciledThrough = startedAt;
+        rebuildMillis = System.currentTimeMillis() - start;
+        builtAt = LocalDateTime.now();
+        log.info("Built user snapshot with {} rows in {} ms", loaded.liveRows(), rebuildMillis);
+        return loaded;
+    }
+
+    /**
+     * Drop the snapshot rows whose ids are no longer in the table. The live ids are
+     * copied before the table is walked, so every copied id was already committed
+     * and its absence from the walk means it was deleted.
+     */
+    private int removeDeleted(UserColumns current) {
+        long[] snapshotIds;
+        lock.readLock().lock();
+        try {
+            snapshotIds = current.liveIds();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> deleted = new ArrayList<>();
+        int next = 0;
+        List<Long> page;
+        long afterId = 0L;
+        do {
+            long pageAfter = afterId;
+            page = transactionTemplate.execute(status ->
+                    userRepository.findIdsAfter(pageAfter, PageRequest.of(0, pageSize)));
+            for (long id : page) {
+                while (next < snapshotIds.length && snapshotIds[next] < id) {
+                    deleted.add(snapshotIds[next++]);
+                }
+                if (next < snapshotIds.length && snapshotIds[next] == id) {
+                    next++;
+                }
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1);
+            }
+        } while (page.size() == pageSize);
+        while (next < snapshotIds.length) {
+            deleted.add(snapshotIds[next++]);
+        }
+
+        if (!deleted.isEmpty()) {
+            lock.writeLock().lock();
+            try {
+                deleted.forEach(current::remove);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return deleted.size();
+    }
+
+    private List<Long> drainDirtyIds() {
+        List<Long> ids = new ArrayList<>(dirtyIds.size());
+        Iterator<Long> iterator = dirtyIds.iterator();
+        while (iterator.hasNext()) {
+            ids.add(iterator.next());
+            iterator.remove();
+        }
+        return ids;
+    }
+}
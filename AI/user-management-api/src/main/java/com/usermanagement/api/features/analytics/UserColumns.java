@@ -0,0 +1,391 @@
+package com.usermanagement.api.features.analytics;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.dto.UserSummary;
+import com.usermanagement.api.models.enums.Role;
+import com.usermanagement.api.utils.UserAnalysisResult;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Column store behind {@link UserColumnarSnapshot}: one primitive array per
+ * attribute, rows kept in id order, deleted rows left as tombstones until the
+ * next compaction. Email domains are dictionary-encoded; a row only stores the
+ * code. Timestamps are epoch microseconds (the resolution of the database
+ * column) with {@link #NO_TIME} for null. Not thread-safe.
+ */
+final class UserColumns {
+
+    static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final Role[] ROLES = Role.values();
+    private static final int NO_MONTH = -1;
+    private static final int NO_DOMAIN = -1;
+
+    private static final byte LIVE = 1;
+    private static final byte ENABLED = 2;
+    private static final byte INCOMPLETE_NAME = 4;
+
+    /** Approximate heap bytes per row across all columns */
+    static final int BYTES_PER_ROW = 8 + 8 + 8 + 4 + 4 + 2 + 1 + 1;
+
+    private long[] ids;
+    private long[] createdAt;
+    private long[] updatedAt;
+    private int[] createdMonth;
+    private int[] domain;
+    private short[] nameLength;
+    private byte[] role;
+    private byte[] flags;
+    private int size;
+    private int dead;
+    private int minMonth = Integer.MAX_VALUE;
+    private int maxMonth = Integer.MIN_VALUE;
+
+    private final List<String> domainNames = new ArrayList<>();
+    private final Map<String, Integer> domainCodes = new HashMap<>();
+
+    UserColumns(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        ids = new long[capacity];
+        createdAt = new long[capacity];
+        updatedAt = new long[capacity];
+        createdMonth = new int[capacity];
+        domain = new int[capacity];
+        nameLength = new short[capacity];
+        role = new byte[capacity];
+        flags = new byte[capacity];
+    }
+
+    int liveRows() {
+        return size - dead;
+    }
+
+    int rows() {
+        return size;
+    }
+
+    int domains() {
+        return domainNames.size();
+    }
+
+    long capacityBytes() {
+        return (long) ids.length * BYTES_PER_ROW;
+    }
+
+    long lastId() {
+        return size == 0 ? 0L : ids[size - 1];
+    }
+
+    /**
+     * Insert or overwrite the row of a user
+     */
+    void upsert(UserSummary user) {
+        int row = Arrays.binarySearch(ids, 0, size, user.getId());
+        if (row < 0) {
+            row = -row - 1;
+            openRow(row);
+            ids[row] = user.getId();
+        } else if ((flags[row] & LIVE) == 0) {
+            dead--;
+        }
+
+        LocalDateTime created = user.getCreatedAt();
+        createdAt[row] = toMicros(created);
+        updatedAt[row] = toMicros(user.getUpdatedAt());
+        createdMonth[row] = created == null ? NO_MONTH : created.getYear() * 12 + created.getMonthValue() - 1;
+        if (created != null) {
+            minMonth = Math.min(minMonth, createdMonth[row]);
+            maxMonth = Math.max(maxMonth, createdMonth[row]);
+        }
+        domain[row] = encodeDomain(user.getEmail());
+        role[row] = (byte) user.getRole().ordinal();
+
+        String firstName = user.getFirstName();
+        String lastName = user.getLastName();
+        int length = (firstName != null ? firstName.length() : 0) + (lastName != null ? lastName.length() : 0);
+        nameLength[row] = (short) Math.min(length, Short.MAX_VALUE);
+        byte rowFlags = LIVE;
+        if (user.isEnabled()) {
+            rowFlags |= ENABLED;
+        }
+        if (isBlank(firstName) || isBlank(lastName)) {
+            rowFlags |= INCOMPLETE_NAME;
+        }
+        flags[row] = rowFlags;
+    }
+
+    /**
+     * Ids of the live rows, ascending
+     */
+    long[] liveIds() {
+        long[] live = new long[liveRows()];
+        int next = 0;
+        for (int row = 0; row < size; row++) {
+            if ((flags[row] & LIVE) != 0) {
+                live[next++] = ids[row];
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Mark the row of a user as deleted
+     * @return true if the user was present
+     */
+    boolean remove(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0 || (flags[row] & LIVE) == 0) {
+            return false;
+        }
+        flags[row] = 0;
+        dead++;
+        if (dead > size / 4) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Scan the live rows matching a filter. Produces the same result as
+     * {@link com.usermanagement.api.utils.UserDataProcessor} over the same users in
+     * id order, including the order of ties in the top domains.
+     */
+    UserAnalysisResult analyze(UserFilter filter, LocalDateTime recentCutoff) {
+        if (liveRows() == 0) {
+            return UserAnalysisResult.empty();
+        }
+
+        int roleFilter = filter.getRole() == null ? -1 : filter.getRole().ordinal();
+        int enabledMask = filter.getEnabled() == null ? LIVE : LIVE | ENABLED;
+        int enabledValue = filter.getEnabled() == null || !filter.getEnabled() ? LIVE : LIVE | ENABLED;
+        boolean[] domainFilter = filter.getEmailDomain() == null ? null : matchingDomains(filter.getEmailDomain());
+        long createdFrom = filter.getCreatedAfter() == null ? NO_TIME : ceilMicros(filter.getCreatedAfter());
+        long createdTo = filter.getCreatedBefore() == null ? Long.MAX_VALUE : ceilMicros(filter.getCreatedBefore());
+        long updatedFrom = filter.getUpdatedAfter() == null ? NO_TIME : ceilMicros(filter.getUpdatedAfter());
+        long updatedTo = filter.getInactiveSince() == null ? Long.MAX_VALUE : ceilMicros(filter.getInactiveSince());
+        boolean createdBounded = filter.getCreatedAfter() != null || filter.getCreatedBefore() != null;
+        boolean updatedBounded = filter.getUpdatedAfter() != null || filter.getInactiveSince() != null;
+        long recentMicros = floorMicros(recentCutoff);
+
+        long[] roleCounts = new long[ROLES.length];
+        long[] domainCounts = new long[domainNames.size()];
+        int[] domainFirstRow = new int[domainNames.size()];
+        long[] monthCounts = new long[maxMonth < minMonth ? 0 : maxMonth - minMonth + 1];
+        int total = 0;
+        int active = 0;
+        int recent = 0;
+        long nameLengthSum = 0;
+        long withoutNames = 0;
+        long shortNames = 0;
+
+        for (int row = 0; row < size; row++) {
+            int rowFlags = flags[row];
+            if ((rowFlags & enabledMask) != enabledValue
+                    || (roleFilter >= 0 && role[row] != roleFilter)
+                    || (domainFilter != null && (domain[row] == NO_DOMAIN || !domainFilter[domain[row]]))
+                    || (createdBounded && (createdAt[row] == NO_TIME
+                        || createdAt[row] < createdFrom || createdAt[row] >= createdTo))
+                    || (updatedBounded && (updatedAt[row] == NO_TIME
+                        || updatedAt[row] < updatedFrom || updatedAt[row] >= updatedTo))) {
+                continue;
+            }
+
+            total++;
+            roleCounts[role[row]]++;
+            if ((rowFlags & ENABLED) != 0) {
+                active++;
+            }
+            int code = domain[row];
+            if (code != NO_DOMAIN && domainCounts[code]++ == 0) {
+                domainFirstRow[code] = row;
+            }
+            if (createdMonth[row] != NO_MONTH) {
+                monthCounts[createdMonth[row] - minMonth]++;
+                if (createdAt[row] > recentMicros) {
+                    recent++;
+                }
+            }
+            nameLengthSum += nameLength[row];
+            if (nameLength[row] < 4) {
+                shortNames++;
+            }
+            if ((rowFlags & INCOMPLETE_NAME) != 0) {
+                withoutNames++;
+            }
+        }
+
+        Map<Role, Double> roleDistribution = new EnumMap<>(Role.class);
+        for (Role value : ROLES) {
+            if (roleCounts[value.ordinal()] > 0) {
+                roleDistribution.put(value, (double) roleCounts[value.ordinal()] / total * 100);
+            }
+        }
+        Map<String, Long> creationByMonth = new HashMap<>();
+        for (int i = 0; i < monthCounts.length; i++) {
+            if (monthCounts[i] > 0) {
+                int month = minMonth + i;
+                creationByMonth.put(YearMonth.of(month / 12, month % 12 + 1).format(MONTH_FORMATTER), monthCounts[i]);
+            }
+        }
+
+        return UserAnalysisResult.builder()
+                .totalUsers(total)
+                .activeUsers(active)
+                .inactiveUsers(total - active)
+                .roleDistribution(roleDistribution)
+                .topEmailDomains(topDomains(domainCounts, domainFirstRow, 5))
+                .creationByMonth(creationByMonth)
+                .recentUsers(recent)
+                .averageNameLength(total == 0 ? 0.0 : (double) nameLengthSum / total)
+                .potentialIssues(potentialIssues(total, active, withoutNames, shortNames))
+                .processingTimestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Rank domains the way the stream pipeline does: a HashMap filled in order of
+     * first occurrence, then a stable sort by count
+     */
+    private List<String> topDomains(long[] counts, int[] firstRow, int limit) {
+        List<Integer> seen = new ArrayList<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                seen.add(code);
+            }
+        }
+        seen.sort((a, b) -> Integer.compare(firstRow[a], firstRow[b]));
+
+        Map<String, Long> byDomain = new HashMap<>();
+        for (int code : seen) {
+            byDomain.computeIfAbsent(domainNames.get(code), d -> counts[code]);
+        }
+        return byDomain.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> potentialIssues(int total, int active, long withoutNames, long shortNames) {
+        List<String> issues = new ArrayList<>();
+        if (withoutNames > 0) {
+            issues.add(String.format("%d users have incomplete names", withoutNames));
+        }
+        if (shortNames > 0) {
+            issues.add(String.format("%d users have very short names", shortNames));
+        }
+        long inactive = total - active;
+        if (inactive > total * 0.1) {
+            issues.add(String.format("High number of inactive users: %d (%.1f%%)",
+                    inactive, (double) inactive / total * 100));
+        }
+        return issues;
+    }
+
+    /**
+     * Domain codes equal to the filter domain, ignoring case
+     */
+    private boolean[] matchingDomains(String filterDomain) {
+        boolean[] matches = new boolean[domainNames.size()];
+        for (int code = 0; code < matches.length; code++) {
+            matches[code] = domainNames.get(code).equalsIgnoreCase(filterDomain);
+        }
+        return matches;
+    }
+
+    private int encodeDomain(String email) {
+        if (email == null || !email.contains("@")) {
+            return NO_DOMAIN;
+        }
+        String name = email.substring(email.indexOf("@") + 1).toLowerCase();
+        Integer code = domainCodes.get(name);
+        if (code == null) {
+            code = domainNames.size();
+            domainNames.add(name);
+            domainCodes.put(name, code);
+        }
+        return code;
+    }
+
+    /**
+     * Make room for a row at the given position, shifting later rows up
+     */
+    private void openRow(int row) {
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            updatedAt = Arrays.copyOf(updatedAt, capacity);
+            createdMonth = Arrays.copyOf(createdMonth, capacity);
+            domain = Arrays.copyOf(domain, capacity);
+            nameLength = Arrays.copyOf(nameLength, capacity);
+            role = Arrays.copyOf(role, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+        int tail = size - row;
+        if (tail > 0) {
+            System.arraycopy(ids, row, ids, row + 1, tail);
+            System.arraycopy(createdAt, row, createdAt, row + 1, tail);
+            System.arraycopy(updatedAt, row, updatedAt, row + 1, tail);
+            System.arraycopy(createdMonth, row, createdMonth, row + 1, tail);
+            System.arraycopy(domain, row, domain, row + 1, tail);
+            System.arraycopy(nameLength, row, nameLength, row + 1, tail);
+            System.arraycopy(role, row, role, row + 1, tail);
+            System.arraycopy(flags, row, flags, row + 1, tail);
+        }
+        size++;
+    }
+
+    private void compact() {
+        int target = 0;
+        for (int row = 0; row < size; row++) {
+            if ((flags[row] & LIVE) == 0) {
+                continue;
+            }
+            if (target != row) {
+                ids[target] = ids[row];
+                createdAt[target] = createdAt[row];
+                updatedAt[target] = updatedAt[row];
+                createdMonth[target] = createdMonth[row];
+                domain[target] = domain[row];
+                nameLength[target] = nameLength[row];
+                role[target] = role[row];
+                flags[target] = flags[row];
+            }
+            target++;
+        }
+        size = target;
+        dead = 0;
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time == null ? NO_TIME : floorMicros(time);
+    }
+
+    private static long floorMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    /**
+     * Smallest microsecond value not before the given time
+     */
+    private static long ceilMicros(LocalDateTime time) {
+        return floorMicros(time) + (time.getNano() % 1_000 == 0 ? 0 : 1);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
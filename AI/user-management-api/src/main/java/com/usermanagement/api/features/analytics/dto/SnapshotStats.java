@@ -0,0 +1,24 @@
+package com.usermanagement.api.features.analytics.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Current state of the columnar user snapshot
+ */
+@Data
+@Builder
+public class SnapshotStats {
+    private boolean built;
+    private int liveRows;
+    private int tombstones;
+    private int distinctDomains;
+    private long approximateBytes;
+    private int pendingRefreshes;
+    private long rebuildMillis;
+    private LocalDateTime builtAt;
+    private LocalDateTime refreshedAt;
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,29 @@
+package com.usermanagement.api.features.notifications;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Transport used when no mail server is configured; only logs the messages
+ */
+@Component
+@ConditionalOnProperty(name = "users.notifications.transport", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LoggingNotificationTransport implements NotificationTransport {
+
+    @Override
+    public List<NotificationMessage> send(List<NotificationMessage> batch) {
+        for (NotificationMessage message : batch) {
+            log.info("Sending {} email to: {}", message.getType(), message.getRecipient());
+        }
+        return List.of();
+    }
+
+    @Override
+    public String getProviderName() {
+        return "log";
+    }
+}
@@ -0,0 +1,52 @@
+package com.usermanagement.api.features.notifications;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the most recent notifications that could not be delivered, so they can
+ * be inspected or replayed. The oldest entries are evicted once the store is full.
+ */
+@Component
+public class NotificationDeadLetterStore {
+
+    public record DeadLetter(NotificationMessage message, String reason, LocalDateTime failedAt) {
+    }
+
+    private final int capacity;
+    private final Deque<DeadLetter> deadLetters = new ArrayDeque<>();
+
+    public NotificationDeadLetterStore(@Value("${users.notifications.dead-letter-capacity:1000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void add(NotificationMessage message, String reason) {
+        if (deadLetters.size() == capacity) {
+            deadLetters.removeFirst();
+        }
+        deadLetters.addLast(new DeadLetter(message, reason, LocalDateTime.now()));
+    }
+
+    public synchronized List<DeadLetter> getDeadLetters() {
+        return new ArrayList<>(deadLetters);
+    }
+
+    /**
+     * Remove and return all dead letters
+     */
+    public synchronized List<DeadLetter> drain() {
+        List<DeadLetter> drained = new ArrayList<>(deadLetters);
+        deadLetters.clear();
+        return drained;
+    }
+
+    public synchronized int size() {
+        return deadLetters.size();
+    }
+}
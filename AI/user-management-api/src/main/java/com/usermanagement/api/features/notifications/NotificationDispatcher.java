@@ -0,0 +1,246 @@
+package com.usermanagement.api.features.notifications;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Queues notifications and delivers them in batches, off the request thread.
+ *
+ * A fixed pool of sender threads bounds the number of concurrent provider
+ * connections; each sender drains up to batch-size messages (waiting at most
+ * linger-millis for a batch to fill) and hands them to the transport in one call.
+ * Failed messages are retried with exponential backoff and jitter until
+ * max-attempts, then moved to the {@link NotificationDeadLetterStore}. A message
+ * for an event already queued inside the de-duplication window is dropped, which
+ * absorbs redeliveries from the at-least-once event outbox without ever merging
+ * two real occurrences (see {@link NotificationMessage#dedupKey()}).
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    private final NotificationTransport transport;
+    private final NotificationDeadLetterStore deadLetterStore;
+    private final BlockingQueue<NotificationMessage> queue;
+    private final ScheduledExecutorService retryScheduler;
+    private final Map<String, Long> recentlyQueued = new ConcurrentHashMap<>();
+    private final int batchSize;
+    private final long lingerMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final long dedupWindowMillis;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final AtomicInteger pendingRetries = new AtomicInteger();
+    private volatile boolean running = true;
+
+    public NotificationDispatcher(NotificationTransport transport,
+                                  NotificationDeadLetterStore deadLetterStore,
+                                  @Value("${users.notifications.pool-size:2}") int poolSize,
+                                  @Value("${users.notifications.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${users.notifications.batch-size:50}") int batchSize,
+                                  @Value("${users.notifications.linger-millis:20}") long lingerMillis,
+                                  @Value("${users.notifications.max-attempts:5}") int maxAttempts,
+                                  @Value("${users.notifications.backoff-millis:500}") long backoffMillis,
+                                  @Value("${users.notifications.max-backoff-millis:60000}") long maxBackoffMillis,
+                                  @Value("${users.notifications.dedup-window-seconds:300}") long dedupWindowSeconds) {
+        this.transport = transport;
+        this.deadLetterStore = deadLetterStore;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.dedupWindowMillis = TimeUnit.SECONDS.toMillis(dedupWindowSeconds);
+
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notifications-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (dedupWindowMillis > 0) {
+            retryScheduler.scheduleWithFixedDelay(this::evictExpiredKeys,
+                    dedupWindowMillis, dedupWindowMillis, TimeUnit.MILLISECONDS);
+        }
+        for (int i = 0; i < poolSize; i++) {
+            Thread sender = new Thread(this::runSender, "notifications-" + transport.getProviderName() + "-" + i);
+            sender.setDaemon(true);
+            sender.start();
+        }
+    }
+
+    /**
+     * Queue a notification for delivery
+     * @param message The notification
+     * @return false if it was a duplicate or could not be queued
+     */
+    public boolean enqueue(NotificationMessage message) {
+        if (isDuplicate(message)) {
+            deduplicated.increment();
+            log.debug("Skipping duplicate {} notification to {}", message.getType(), message.getRecipient());
+            return false;
+        }
+        if (!queue.offer(message)) {
+            deadLetter(message, "queue full");
+            return false;
+        }
+        enqueued.increment();
+        return true;
+    }
+
+    /**
+     * Re-queue all dead letters with a fresh attempt count
+     * @return Number of messages re-queued
+     */
+    public int replayDeadLetters() {
+        int replayed = 0;
+        for (NotificationDeadLetterStore.DeadLetter deadLetter : deadLetterStore.drain()) {
+            if (queue.offer(deadLetter.message().withAttempts(0))) {
+                replayed++;
+            } else {
+                deadLetterStore.add(deadLetter.message(), "queue full");
+            }
+        }
+        return replayed;
+    }
+
+    public NotificationStats getStats() {
+        return NotificationStats.builder()
+                .provider(transport.getProviderName())
+                .queueDepth(queue.size())
+                .pendingRetries(pendingRetries.get())
+                .enqueued(enqueued.sum())
+                .sent(sent.sum())
+                .batches(batches.sum())
+                .retried(retried.sum())
+                .deduplicated(deduplicated.sum())
+                .deadLettered(deadLettered.sum())
+                .build();
+    }
+
+    /**
+     * Stop accepting retries; senders drain what is already queued and exit
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        retryScheduler.shutdownNow();
+    }
+
+    private boolean isDuplicate(NotificationMessage message) {
+        String key = message.dedupKey();
+        if (dedupWindowMillis <= 0 || key == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Long queuedAt = recentlyQueued.get(key);
+        if (queuedAt == null) {
+            return recentlyQueued.putIfAbsent(key, now) != null;
+        }
+        return now - queuedAt < dedupWindowMillis || !recentlyQueued.replace(key, queuedAt, now);
+    }
+
+    private void evictExpiredKeys() {
+        long cutoff = System.currentTimeMillis() - dedupWindowMillis;
+        recentlyQueued.values().removeIf(queuedAt -> queuedAt < cutoff);
+    }
+
+    private void runSender() {
+        List<NotificationMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationMessage first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<NotificationMessage> batch) throws InterruptedException {
+        queue.drainTo(batch, batchSize - batch.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            NotificationMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void deliver(List<NotificationMessage> batch) {
+        List<NotificationMessage> failed;
+        try {
+            failed = transport.send(List.copyOf(batch));
+        } catch (RuntimeException e) {
+            log.warn("Sending batch of {} notifications via {} failed: {}",
+                    batch.size(), transport.getProviderName(), e.getMessage());
+            failed = batch;
+        }
+        batches.increment();
+        sent.add(batch.size() - failed.size());
+        failed.forEach(this::retryOrDeadLetter);
+    }
+
+    private void retryOrDeadLetter(NotificationMessage message) {
+        NotificationMessage next = message.withAttempts(message.getAttempts() + 1);
+        if (next.getAttempts() >= maxAttempts || !running) {
+            deadLetter(next, "delivery failed after " + next.getAttempts() + " attempts");
+            return;
+        }
+
+        long delay = Math.min(maxBackoffMillis, backoffMillis << (next.getAttempts() - 1));
+        delay += ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        retried.increment();
+        pendingRetries.incrementAndGet();
+        retryScheduler.schedule(() -> {
+            pendingRetries.decrementAndGet();
+            if (!queue.offer(next)) {
+                deadLetter(next, "queue full");
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void deadLetter(NotificationMessage message, String reason) {
+        deadLettered.increment();
+        deadLetterStore.add(message, reason);
+        recentlyQueued.remove(message.dedupKey());
+        log.error("Dead-lettered {} notification to {}: {}", message.getType(), message.getRecipient(), reason);
+    }
+}
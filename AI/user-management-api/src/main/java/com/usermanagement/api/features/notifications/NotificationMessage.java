@@ -0,0 +1,46 @@
+package com.usermanagement.api.features.notifications;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+import java.util.Locale;
+
+/**
+ * A single email notification waiting for delivery
+ */
+@Value
+@Builder
+public class NotificationMessage {
+    /**
+     * Identity of the event that caused the notification; null for one-off sends
+     */
+    String eventId;
+    Long userId;
+    String recipient;
+    String recipientName;
+    NotificationType type;
+    @With
+    int attempts;
+
+    /**
+     * Messages with the same key inside the de-duplication window are sent once.
+     * Only redeliveries of the same event share a key; a later occurrence of the
+     * same type for the same user is a new event and is always sent.
+     * @return The key, or null if the message is never a redelivery
+     */
+    public String dedupKey() {
+        if (eventId == null) {
+            return null;
+        }
+        return type + ":" + recipient.toLowerCase(Locale.ROOT) + ":" + eventId;
+    }
+
+    public String getSubject() {
+        return type.getSubject();
+    }
+
+    public String getBody() {
+        return type.body(recipientName != null ? recipientName : recipient);
+    }
+}
@@ -0,0 +1,21 @@
+package com.usermanagement.api.features.notifications;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Snapshot of the notification pipeline counters
+ */
+@Data
+@Builder
+public class NotificationStats {
+    private String provider;
+    private int queueDepth;
+    private int pendingRetries;
+    private long enqueued;
+    private long sent;
+    private long batches;
+    private long retried;
+    private long deduplicated;
+    private long deadLettered;
+}
@@ -0,0 +1,18 @@
+package com.usermanagement.api.features.notifications;
+
+import java.util.List;
+
+/**
+ * Delivers batches of notifications to a provider
+ */
+public interface NotificationTransport {
+
+    /**
+     * Send a batch of messages, ideally over a single provider connection
+     * @param batch Messages to send
+     * @return Messages that could not be delivered; throwing means the whole batch failed
+     */
+    List<NotificationMessage> send(List<NotificationMessage> batch);
+
+    String getProviderName();
+}
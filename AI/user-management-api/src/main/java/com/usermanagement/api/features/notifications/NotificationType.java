@@ -0,0 +1,31 @@
+package com.usermanagement.api.features.notifications;
+
+/**
+ * Kinds of email notifications sent to users, with their subject and body templates
+ */
+public enum NotificationType {
+    WELCOME("Welcome to User Management",
+            "Hello %s, your account has been created."),
+    PASSWORD_CHANGED("Your password was changed",
+            "Hello %s, the password of your account was changed. If this was not you, please contact support."),
+    ACCOUNT_LOCKED("Your account has been locked",
+            "Hello %s, your account has been locked."),
+    ACCOUNT_UNLOCKED("Your account has been unlocked",
+            "Hello %s, your account has been unlocked.");
+
+    private final String subject;
+    private final String bodyTemplate;
+
+    NotificationType(String subject, String bodyTemplate) {
+        this.subject = subject;
+        this.bodyTemplate = bodyTemplate;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String body(String recipientName) {
+        return String.format(bodyTemplate, recipientName);
+    }
+}
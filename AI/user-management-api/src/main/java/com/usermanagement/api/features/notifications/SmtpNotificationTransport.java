@@ -0,0 +1,77 @@
+package com.usermanagement.api.features.notifications;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends notifications through the configured SMTP server (spring.mail.*).
+ *
+ * All messages of a batch go through one {@link JavaMailSender#send(SimpleMailMessage...)}
+ * call, which opens a single SMTP connection for the whole batch.
+ */
+@Component
+@ConditionalOnProperty(name = "users.notifications.transport", havingValue = "smtp")
+@Slf4j
+public class SmtpNotificationTransport implements NotificationTransport {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    public SmtpNotificationTransport(JavaMailSender mailSender,
+                                     @Value("${users.notifications.from:no-reply@usermanagement.local}") String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public List<NotificationMessage> send(List<NotificationMessage> batch) {
+        SimpleMailMessage[] mails = new SimpleMailMessage[batch.size()];
+        Map<SimpleMailMessage, NotificationMessage> byMail = new IdentityHashMap<>();
+        for (int i = 0; i < mails.length; i++) {
+            mails[i] = toMail(batch.get(i));
+            byMail.put(mails[i], batch.get(i));
+        }
+
+        try {
+            mailSender.send(mails);
+            return List.of();
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                throw e;
+            }
+            List<NotificationMessage> failed = new ArrayList<>();
+            e.getFailedMessages().forEach((mail, cause) -> {
+                NotificationMessage message = byMail.get(mail);
+                if (message != null) {
+                    failed.add(message);
+                }
+            });
+            log.warn("{} of {} messages rejected by SMTP server", failed.size(), batch.size());
+            return failed;
+        }
+    }
+
+    @Override
+    public String getProviderName() {
+        return "smtp";
+    }
+
+    private SimpleMailMessage toMail(NotificationMessage message) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(from);
+        mail.setTo(message.getRecipient());
+        mail.setSubject(message.getSubject());
+        mail.setText(message.getBody());
+        return mail;
+    }
+}
@@ -0,0 +1,142 @@
+package com.usermanagement.api.features.outbox;
+
+import com.usermanagement.api.models.OutboxEvent;
+import com.usermanagement.api.patterns.observer.UserEventManager;
+import com.usermanagement.api.repositories.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Polls the outbox and delivers pending events to the {@link UserEventManager} listeners.
+ *
+ * A batch is claimed in a short transaction: its rows are locked with SKIP LOCKED,
+ * so several nodes can relay in parallel, and stamped with a lease of lease-millis
+ * before the commit releases the locks. Delivery then runs with no transaction or
+ * connection held, however slow the listeners are, and a second short transaction
+ * deletes the delivered rows. A relay stops starting deliveries once half the lease
+ * has passed and hands the rest of the batch back. If the node dies, the lease
+ * expires and another relay delivers the batch again (at-least-once). Events whose
+ * delivery fails are retried on later polls until max-attempts, after which they
+ * stay in the table as dead letters.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final UserEventManager userEventManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long leaseMillis;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       UserEventManager userEventManager,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${users.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${users.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${users.outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${users.outbox.relay.lease-millis:60000}") long leaseMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.userEventManager = userEventManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${users.outbox.relay.poll-interval-millis:200}")
+    public void poll() {
+        if (enabled) {
+            relayPending();
+        }
+    }
+
+    /**
+     * Relay batches until the outbox has no more pending events
+     * @return Number of events delivered
+     */
+    public long relayPending() {
+        long delivered = 0;
+        int batch;
+        do {
+            batch = relayBatch();
+            delivered += batch;
+        } while (batch == batchSize);
+        return delivered;
+    }
+
+    /**
+     * Claim, deliver and remove one batch of pending events
+     * @return Number of events delivered successfully
+     */
+    public int relayBatch() {
+        List<OutboxEvent> events = claimBatch();
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long deliverUntil = System.currentTimeMillis() + leaseMillis / 2;
+        List<Long> delivered = new ArrayList<>(events.size());
+        List<Long> failed = new ArrayList<>();
+        List<Long> unattempted = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            if (System.currentTimeMillis() > deliverUntil) {
+                unattempted.add(event.getId());
+            } else if (userEventManager.deliverSynchronously(event.toUserEvent())) {
+                delivered.add(event.getId());
+            } else {
+                failed.add(event.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                outboxEventRepository.deleteByIdIn(delivered);
+            }
+            if (!failed.isEmpty()) {
+                outboxEventRepository.incrementAttemptsByIdIn(failed);
+            }
+            if (!unattempted.isEmpty()) {
+                outboxEventRepository.releaseByIdIn(unattempted);
+            }
+        });
+        if (!failed.isEmpty()) {
+            log.warn("{} outbox events failed delivery and will be retried", failed.size());
+        }
+        if (!unattempted.isEmpty()) {
+            log.warn("Lease running out, released {} outbox events undelivered", unattempted.size());
+        }
+        log.debug("Relayed {} outbox events", delivered.size());
+        return delivered.size();
+    }
+
+    /**
+     * Lock the next pending events, stamp them with a lease and commit
+     */
+    private List<OutboxEvent> claimBatch() {
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> pending = outboxEventRepository.findPendingForUpdate(
+                    maxAttempts, now, PageRequest.of(0, batchSize));
+            if (!pending.isEmpty()) {
+                outboxEventRepository.claimByIdIn(pending.stream().map(OutboxEvent::getId).toList(),
+                        now.plus(leaseMillis, ChronoUnit.MILLIS));
+            }
+            return pending;
+        });
+        return events == null ? List.of() : events;
+    }
+}
@@ -0,0 +1,52 @@
+package com.usermanagement.api.features.outbox;
+
+import com.usermanagement.api.models.OutboxEvent;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.patterns.observer.UserEvent;
+import com.usermanagement.api.repositories.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Writes user events to the outbox table. Must be called inside the transaction
+ * that performs the user change, so the event commits or rolls back with it;
+ * {@link OutboxRelay} delivers it to the listeners afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(UserEvent.UserEventType type, User user, String description) {
+        outboxEventRepository.save(toOutboxEvent(type, user, description, LocalDateTime.now()));
+    }
+
+    /**
+     * Record one event per user; inserts are sent as JDBC batches
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(UserEvent.UserEventType type, Collection<User> users, String description) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.saveAll(users.stream()
+                .map(user -> toOutboxEvent(type, user, description, now))
+                .toList());
+    }
+
+    private OutboxEvent toOutboxEvent(UserEvent.UserEventType type, User user, String description,
+                                      LocalDateTime createdAt) {
+        return OutboxEvent.builder()
+                .eventType(type)
+                .userId(user.getId())
+                .userEmail(user.getEmail())
+                .description(description)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.usermanagement.api.features.pool;
+
+import com.usermanagement.api.features.pool.dto.PoolMetricsSnapshot;
+import com.usermanagement.api.utils.LatencyHistogram;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Samples the demand on the primary connection pool and derives a pool size.
+ *
+ * Demand is active connections plus threads waiting for one. The recommended size
+ * is the peak demand over the last window-samples samples times the headroom
+ * factor, clamped to [min-size, max-size]. In RECOMMEND mode the value is only
+ * reported; in ADJUST mode it is applied to the live pool, shrinking only once a
+ * full window has been observed.
+ */
+@Component
+@Slf4j
+public class ConnectionPoolMonitor {
+
+    public enum AdaptiveMode {
+        OFF,
+        RECOMMEND,
+        ADJUST
+    }
+
+    private final HikariDataSource pool;
+    private final PoolMetrics poolMetrics;
+    private final AdaptiveMode adaptiveMode;
+    private final int minSize;
+    private final int maxSize;
+    private final double headroom;
+    private final int[] demandWindow;
+    private int nextSample;
+    private int sampleCount;
+
+    public ConnectionPoolMonitor(@Qualifier(PoolInstrumentationConfig.PRIMARY_POOL) DataSource primaryPool,
+                                 PoolMetrics poolMetrics,
+                                 @Value("${users.pool.adaptive.mode:RECOMMEND}") AdaptiveMode adaptiveMode,
+                                 @Value("${users.pool.adaptive.min-size:5}") int minSize,
+                                 @Value("${users.pool.adaptive.max-size:50}") int maxSize,
+                                 @Value("${users.pool.adaptive.headroom:1.25}") double headroom,
+                                 @Value("${users.pool.adaptive.window-samples:60}") int windowSamples) {
+        this.pool = unwrapHikari(primaryPool);
+        this.poolMetrics = poolMetrics;
+        this.adaptiveMode = adaptiveMode;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.headroom = headroom;
+        this.demandWindow = new int[windowSamples];
+    }
+
+    @Scheduled(fixedDelayString = "${users.pool.adaptive.sample-interval-millis:1000}")
+    public void sample() {
+        if (adaptiveMode == AdaptiveMode.OFF || pool == null) {
+            return;
+        }
+        HikariPoolMXBean poolBean = pool.getHikariPoolMXBean();
+        if (poolBean == null) {
+            return;
+        }
+        recordDemand(poolBean.getActiveConnections() + poolBean.getThreadsAwaitingConnection());
+        if (adaptiveMode == AdaptiveMode.ADJUST) {
+            adjust();
+        }
+    }
+
+    synchronized void recordDemand(int demand) {
+        demandWindow[nextSample] = demand;
+        nextSample = (nextSample + 1) % demandWindow.length;
+        sampleCount = Math.min(sampleCount + 1, demandWindow.length);
+    }
+
+    public synchronized int getPeakDemand() {
+        int peak = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            peak = Math.max(peak, demandWindow[i]);
+        }
+        return peak;
+    }
+
+    public int getRecommendedPoolSize() {
+        int recommended = (int) Math.ceil(getPeakDemand() * headroom);
+        return Math.max(minSize, Math.min(maxSize, recommended));
+    }
+
+    public PoolMetricsSnapshot snapshot() {
+        LatencyHistogram acquisitionTimes = poolMetrics.getAcquisitionTimes();
+        PoolMetricsSnapshot.PoolMetricsSnapshotBuilder snapshot = PoolMetricsSnapshot.builder()
+                .acquisitions(acquisitionTimes.count())
+                .acquisitionFailures(poolMetrics.getAcquisitionFailures())
+                .acquisitionP50Millis(acquisitionTimes.percentileMicros(0.5) / 1000.0)
+                .acquisitionP99Millis(acquisitionTimes.percentileMicros(0.99) / 1000.0)
+                .acquisitionMaxMillis(acquisitionTimes.maxMicros() / 1000.0)
+                .adaptiveMode(adaptiveMode.name())
+                .peakDemand(getPeakDemand())
+                .recommendedPoolSize(getRecommendedPoolSize())
+                .repositoryMethods(poolMetrics.getRepositoryMethodUsage());
+
+        if (pool != null) {
+            snapshot.poolName(pool.getPoolName()).maxPoolSize(pool.getMaximumPoolSize());
+            HikariPoolMXBean poolBean = pool.getHikariPoolMXBean();
+            if (poolBean != null) {
+                snapshot.activeConnections(poolBean.getActiveConnections())
+                        .idleConnections(poolBean.getIdleConnections())
+                        .pendingThreads(poolBean.getThreadsAwaitingConnection())
+                        .totalConnections(poolBean.getTotalConnections());
+            }
+        }
+        return snapshot.build();
+    }
+
+    private void adjust() {
+        int current = pool.getHikariConfigMXBean().getMaximumPoolSize();
+        int recommended = getRecommendedPoolSize();
+        boolean windowFull;
+        synchronized (this) {
+            windowFull = sampleCount == demandWindow.length;
+        }
+        if (recommended > current || (recommended < current && windowFull)) {
+            pool.getHikariConfigMXBean().setMaximumPoolSize(recommended);
+            log.info("Adjusted connection pool {} maximum size from {} to {} (peak demand {})",
+                    pool.getPoolName(), current, recommended, getPeakDemand());
+        }
+    }
+
+    /**
+     * The Hikari pool behind its {@link InstrumentedDataSource} wrapper
+     */
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
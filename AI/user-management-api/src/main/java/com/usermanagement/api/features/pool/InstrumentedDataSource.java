@@ -0,0 +1,46 @@
+package com.usermanagement.api.features.pool;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Times every connection checkout of the wrapped pool
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final PoolMetrics poolMetrics;
+
+    public InstrumentedDataSource(DataSource target, PoolMetrics poolMetrics) {
+        super(target);
+        this.poolMetrics = poolMetrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Connection connection = super.getConnection();
+            success = true;
+            return connection;
+        } finally {
+            poolMetrics.recordAcquisition(System.nanoTime() - start, success);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Connection connection = super.getConnection(username, password);
+            success = true;
+            return connection;
+        } finally {
+            poolMetrics.recordAcquisition(System.nanoTime() - start, success);
+        }
+    }
+}
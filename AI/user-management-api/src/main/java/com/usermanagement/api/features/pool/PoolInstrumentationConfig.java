@@ -0,0 +1,55 @@
+package com.usermanagement.api.features.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Wraps the application's primary Hikari pool in an {@link InstrumentedDataSource}.
+ *
+ * The primary pool is the primaryDataSource bean when read/write splitting is
+ * enabled and Boot's dataSource bean otherwise; it is aliased as
+ * {@value #PRIMARY_POOL} so it can be injected by qualifier. Other pools, such as
+ * the replica, are left as they are.
+ */
+@Configuration
+public class PoolInstrumentationConfig {
+
+    public static final String PRIMARY_POOL = "primaryPool";
+
+    private static final List<String> PRIMARY_POOL_CANDIDATES = List.of("primaryDataSource", "dataSource");
+
+    @Bean
+    public static BeanFactoryPostProcessor primaryPoolAlias() {
+        return beanFactory -> {
+            for (String name : PRIMARY_POOL_CANDIDATES) {
+                if (beanFactory.containsBeanDefinition(name)) {
+                    beanFactory.registerAlias(name, PRIMARY_POOL);
+                    return;
+                }
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor poolInstrumentationPostProcessor(ConfigurableListableBeanFactory beanFactory,
+                                                                     ObjectProvider<PoolMetrics> poolMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && Arrays.asList(beanFactory.getAliases(beanName)).contains(PRIMARY_POOL)) {
+                    return new InstrumentedDataSource(dataSource, poolMetrics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package com.usermanagement.api.features.pool;
+
+import com.usermanagement.api.features.pool.dto.RepositoryMethodUsage;
+import com.usermanagement.api.utils.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects connection acquisition times of the primary DataSource and usage
+ * per repository method.
+ *
+ * A connection acquired while a repository method is running is attributed to
+ * that method. Connections opened by a surrounding transaction are acquired
+ * before any repository call and are only counted in the pool-wide figures.
+ */
+@Component
+public class PoolMetrics {
+
+    private final LatencyHistogram acquisitionTimes = new LatencyHistogram();
+    private final LongAdder acquisitionFailures = new LongAdder();
+    private final Map<String, MethodStats> methods = new ConcurrentHashMap<>();
+    private final ThreadLocal<MethodStats> currentMethod = new ThreadLocal<>();
+
+    void recordAcquisition(long nanos, boolean success) {
+        if (!success) {
+            acquisitionFailures.increment();
+            return;
+        }
+        acquisitionTimes.record(nanos);
+        MethodStats method = currentMethod.get();
+        if (method != null) {
+            method.acquisitions.increment();
+            method.acquisitionNanos.add(nanos);
+        }
+    }
+
+    /**
+     * Mark the start of a repository call on this thread
+     * @return The previously running method, to pass to {@link #exitMethod}
+     */
+    Object enterMethod(String method) {
+        MethodStats previous = currentMethod.get();
+        currentMethod.set(methods.computeIfAbsent(method, MethodStats::new));
+        return previous;
+    }
+
+    void exitMethod(Object previous, long nanos) {
+        MethodStats method = currentMethod.get();
+        if (method != null) {
+            method.calls.increment();
+            method.totalNanos.add(nanos);
+            method.maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+        if (previous == null) {
+            currentMethod.remove();
+        } else {
+            currentMethod.set((MethodStats) previous);
+        }
+    }
+
+    public LatencyHistogram getAcquisitionTimes() {
+        return acquisitionTimes;
+    }
+
+    public long getAcquisitionFailures() {
+        return acquisitionFailures.sum();
+    }
+
+    /**
+     * @return Usage per repository method, busiest first
+     */
+    public List<RepositoryMethodUsage> getRepositoryMethodUsage() {
+        return methods.values().stream()
+                .map(MethodStats::toUsage)
+                .sorted(Comparator.comparingLong(RepositoryMethodUsage::getCalls).reversed())
+                .toList();
+    }
+
+    private static final class MethodStats {
+        private final String method;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder acquisitionNanos = new LongAdder();
+
+        private MethodStats(String method) {
+            this.method = method;
+        }
+
+        private RepositoryMethodUsage toUsage() {
+            long callCount = calls.sum();
+            long acquisitionCount = acquisitions.sum();
+            return RepositoryMethodUsage.builder()
+                    .method(method)
+                    .calls(callCount)
+                    .avgMillis(callCount == 0 ? 0 : totalNanos.sum() / 1e6 / callCount)
+                    .maxMillis(maxNanos.get() / 1e6)
+                    .connectionAcquisitions(acquisitionCount)
+                    .avgAcquisitionMillis(acquisitionCount == 0 ? 0 : acquisitionNanos.sum() / 1e6 / acquisitionCount)
+                    .build();
+        }
+    }
+}
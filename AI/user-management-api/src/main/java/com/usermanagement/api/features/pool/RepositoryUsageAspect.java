@@ -0,0 +1,42 @@
+package com.usermanagement.api.features.pool;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records call counts, latency and connection checkouts per repository method
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryUsageAspect {
+
+    private final PoolMetrics poolMetrics;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object recordUsage(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object previous = poolMetrics.enterMethod(
+                repositoryName(joinPoint.getThis()) + "." + joinPoint.getSignature().getName());
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            poolMetrics.exitMethod(previous, System.nanoTime() - start);
+        }
+    }
+
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+            return interfaces.length > 0 ? interfaces[0].getSimpleName() : type.getSimpleName();
+        });
+    }
+}
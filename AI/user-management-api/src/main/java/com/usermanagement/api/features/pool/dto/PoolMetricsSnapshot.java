@@ -0,0 +1,29 @@
+package com.usermanagement.api.features.pool.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Current state of the application connection pool
+ */
+@Data
+@Builder
+public class PoolMetricsSnapshot {
+    private String poolName;
+    private int activeConnections;
+    private int idleConnections;
+    private int pendingThreads;
+    private int totalConnections;
+    private int maxPoolSize;
+    private long acquisitions;
+    private long acquisitionFailures;
+    private double acquisitionP50Millis;
+    private double acquisitionP99Millis;
+    private double acquisitionMaxMillis;
+    private String adaptiveMode;
+    private int peakDemand;
+    private int recommendedPoolSize;
+    private List<RepositoryMethodUsage> repositoryMethods;
+}
@@ -0,0 +1,18 @@
+package com.usermanagement.api.features.pool.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Calls, latency and connection checkouts of one repository method
+ */
+@Data
+@Builder
+public class RepositoryMethodUsage {
+    private String method;
+    private long calls;
+    private double avgMillis;
+    private double maxMillis;
+    private long connectionAcquisitions;
+    private double avgAcquisitionMillis;
+}
@@ -0,0 +1,66 @@
+package com.usermanagement.api.features.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Periodically measures replication lag on the replica.
+ *
+ * The replica is used for reads only while the last check succeeded and reported
+ * a lag of at most max-lag-millis; until the first check, after a failed check or
+ * when the replica falls behind, reads go to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaUsable;
+    private volatile long lastLagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagMillis) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${users.datasource.replica.lag-check-interval-millis:1000}")
+    public void check() {
+        boolean usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            resultSet.next();
+            lastLagMillis = resultSet.getLong(1);
+            usable = lastLagMillis <= maxLagMillis;
+        } catch (SQLException e) {
+            lastLagMillis = -1;
+            usable = false;
+            if (replicaUsable) {
+                log.warn("Replica lag check failed, routing reads to the primary: {}", e.getMessage());
+            }
+        }
+
+        if (usable != replicaUsable) {
+            log.info("Replica {} for reads (lag {} ms, max {} ms)",
+                    usable ? "enabled" : "disabled", lastLagMillis, maxLagMillis);
+            replicaUsable = usable;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+}
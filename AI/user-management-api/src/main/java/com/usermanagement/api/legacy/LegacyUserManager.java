@@ -1,162 +1,162 @@
 package com.usermanagement.api.legacy;
 
+import com.usermanagement.api.dto.UserSummary;
 import com.usermanagement.api.models.User;
 import com.usermanagement.api.models.enums.Role;
+import com.usermanagement.api.modern.NotificationService;
 import com.usermanagement.api.repositories.UserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.usermanagement.api.services.EmailBloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
- * LEGACY CODE - This class violates SOLID principles and needs modernization
- * 
- * Problems:
- * 1. Single Responsibility Principle: Handles multiple responsibilities
- * 2. Open/Closed Principle: Hard to extend without modification
- * 3. Dependency Inversion: Directly depends on concrete implementations
- * 4. Poor error handling
- * 5. Mixed concerns (business logic, data access, validation)
- * 6. No proper logging
- * 7. Hard-coded values
- * 8. No unit testing support
+ * Legacy user management API, kept for existing callers.
+ *
+ * All access goes through the application's connection pool: creation is a
+ * single insert-on-conflict round trip (no existence probe, no leaked JDBC
+ * resources), and listings page through a {@link UserSummary} projection so
+ * password hashes are never loaded and managed entities are never mutated.
  */
 @Component
+@RequiredArgsConstructor
+@Slf4j
 public class LegacyUserManager {
-    
-    @Autowired
-    private UserRepository userRepository;
-    
-    @Autowired
-    private PasswordEncoder passwordEncoder;
-    
-    // Violation: Multiple responsibilities in one class
+
+    static final String HIDDEN_PASSWORD = "***HIDDEN***";
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final EmailBloomFilter emailBloomFilter;
+    private final NotificationService notificationService;
+
     public boolean createUser(String email, String password, String firstName, String lastName, String role) {
+        if (email == null || email.isEmpty()) {
+            log.warn("Email is required");
+            return false;
+        }
+        if (password == null || password.length() < 6) {
+            log.warn("Password must be at least 6 characters");
+            return false;
+        }
+
+        User user = User.builder()
+                .email(email)
+                .password(passwordEncoder.encode(password))
+                .firstName(firstName)
+                .lastName(lastName)
+                .role("admin".equalsIgnoreCase(role) ? Role.ADMIN : Role.USER)
+                .build();
+
         try {
-            // Validation logic mixed with business logic
-            if (email == null || email.isEmpty()) {
-                System.out.println("Email is required");
-                return false;
-            }
-            
-            if (password == null || password.length() < 6) {
-                System.out.println("Password must be at least 6 characters");
-                return false;
-            }
-            
-            // Direct database access mixed with JPA usage
-            Connection conn = DriverManager.getConnection("jdbc:postgresql://localhost:5432/user_management", "user", "password");
-            PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM users WHERE email = ?");
-            stmt.setString(1, email);
-            ResultSet rs = stmt.executeQuery();
-            rs.next();
-            if (rs.getInt(1) > 0) {
-                System.out.println("User already exists");
+            Optional<Long> id = userRepository.insertIfAbsent(user);
+            if (id.isEmpty()) {
+                log.info("User already exists: {}", email);
                 return false;
             }
-            
-            // Business logic mixed with data access
-            User user = new User();
-            user.setEmail(email);
-            user.setPassword(passwordEncoder.encode(password));
-            user.setFirstName(firstName);
-            user.setLastName(lastName);
-            
-            // Hard-coded role mapping
-            if ("admin".equalsIgnoreCase(role)) {
-                user.setRole(Role.ADMIN);
-            } else {
-                user.setRole(Role.USER);
-            }
-            
-            userRepository.save(user);
-            
-            // Mixed concerns: Email notification logic
-            sendWelcomeEmail(email);
-            
-            return true;
-            
-        } catch (Exception e) {
-            System.err.println("Error creating user: " + e.getMessage());
+            emailBloomFilter.put(email);
+            log.info("Created user {} with id {}, sending welcome email", email, id.get());
+        } catch (DataAccessException e) {
+            log.error("Error creating user {}", email, e);
             return false;
         }
-    }
-    
-    // Violation: Another responsibility - email sending
-    private void sendWelcomeEmail(String email) {
+
         try {
-            // Hard-coded email logic
-            System.out.println("Sending welcome email to: " + email);
-            // In real legacy code, this might be complex SMTP logic
+            notificationService.sendWelcomeEmail(email, firstName);
         } catch (Exception e) {
-            System.err.println("Failed to send email: " + e.getMessage());
+            log.error("Failed to send welcome email to {}, but the user was created", email, e);
         }
+        return true;
+    }
+
+    /**
+     * One page of users ordered by id
+     * @param page Zero-based page index
+     * @param size Page size, capped at {@value #MAX_PAGE_SIZE}
+     */
+    public Page<UserSummary> getUsers(int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by("id"));
+        return userRepository.findAllSummariesBy(pageable);
     }
-    
-    // Violation: Poor error handling and mixed concerns
+
+    /**
+     * All users as detached copies with masked passwords
+     * @deprecated loads every user into memory; page with {@link #getUsers(int, int)} instead
+     */
+    @Deprecated
     public List<User> getAllUsers() {
         List<User> users = new ArrayList<>();
         try {
-            users = userRepository.findAll();
-            
-            // Mixed concerns: Data transformation logic
-            for (User user : users) {
-                if (user.getPassword() != null) {
-                    user.setPassword("***HIDDEN***");
-                }
+            Page<UserSummary> page = getUsers(0, MAX_PAGE_SIZE);
+            page.forEach(summary -> users.add(toMaskedUser(summary)));
+            while (page.hasNext()) {
+                page = userRepository.findAllSummariesBy(page.nextPageable());
+                page.forEach(summary -> users.add(toMaskedUser(summary)));
             }
-            
-        } catch (Exception e) {
-            System.err.println("Error getting users: " + e.getMessage());
+        } catch (DataAccessException e) {
+            log.error("Error getting users", e);
         }
         return users;
     }
-    
-    // Violation: Inconsistent error handling and hard-coded values
+
     public boolean updateUser(Long id, String email, String firstName, String lastName) {
         try {
             User user = userRepository.findById(id).orElse(null);
             if (user == null) {
-                System.out.println("User not found");
+                log.info("User not found: {}", id);
                 return false;
             }
-            
-            // Hard-coded validation
+
             if (email != null && email.contains("@")) {
                 user.setEmail(email);
             }
-            
-            if (firstName != null && firstName.length() > 0) {
+            if (firstName != null && !firstName.isEmpty()) {
                 user.setFirstName(firstName);
             }
-            
-            if (lastName != null && lastName.length() > 0) {
+            if (lastName != null && !lastName.isEmpty()) {
                 user.setLastName(lastName);
             }
-            
+
             userRepository.save(user);
             return true;
-            
-        } catch (Exception e) {
-            System.err.println("Error updating user: " + e.getMessage());
+        } catch (DataAccessException e) {
+            log.error("Error updating user {}", id, e);
             return false;
         }
     }
-    
-    // Violation: No proper logging, poor error handling
+
     public boolean deleteUser(Long id) {
         try {
             userRepository.deleteById(id);
             return true;
-        } catch (Exception e) {
-            System.err.println("Error deleting user: " + e.getMessage());
+        } catch (DataAccessException e) {
+            log.error("Error deleting user {}", id, e);
             return false;
         }
     }
-} 
\ No newline at end of file
+
+    private User toMaskedUser(UserSummary summary) {
+        return User.builder()
+                .id(summary.getId())
+                .email(summary.getEmail())
+                .password(HIDDEN_PASSWORD)
+                .firstName(summary.getFirstName())
+                .lastName(summary.getLastName())
+                .role(summary.getRole())
+                .enabled(summary.isEnabled())
+                .createdAt(summary.getCreatedAt())
+                .build();
+    }
+}
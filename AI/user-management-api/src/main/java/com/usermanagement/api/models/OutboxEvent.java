@@ -0,0 +1,58 @@
+package com.usermanagement.api.models;
+
+import com.usermanagement.api.patterns.observer.UserEvent;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user event waiting in the transactional outbox to be relayed to listeners
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "user_event_outbox")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_event_outbox_seq")
+    @SequenceGenerator(name = "user_event_outbox_seq", sequenceName = "user_event_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private UserEvent.UserEventType eventType;
+
+    private Long userId;
+
+    private String userEmail;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    /**
+     * Set while a relay delivers the event; other relays skip it until then
+     */
+    private LocalDateTime claimedUntil;
+
+    /**
+     * Rebuild the in-memory event; the user is a detached stub carrying id and email
+     */
+    public UserEvent toUserEvent() {
+        User user = User.builder().id(userId).email(userEmail).build();
+        return new UserEvent("outbox-" + id, eventType, user, description, createdAt);
+    }
+}
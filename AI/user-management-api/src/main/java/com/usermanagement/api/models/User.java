@@ -7,25 +7,35 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "users")
+@DynamicUpdate
+@Table(name = "users", indexes = @Index(name = "idx_users_email_domain", columnList = "email_domain"))
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
     private String email;
 
+    /**
+     * Lower-cased part of the email after the first '@', kept in step with the email
+     */
+    @Column(name = "email_domain")
+    private String emailDomain;
+
     @Column(nullable = false)
     private String password;
 
@@ -48,9 +58,29 @@ public class User {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailDomain = emailDomainOf(email);
+    }
+
+    /**
+     * @return Lower-cased part of the email after the first '@', or null if there is none
+     */
+    public static String emailDomainOf(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        return at < 0 ? null : email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        emailDomain = emailDomainOf(email);
         if (role == null) {
             role = Role.USER;
         }
@@ -5,6 +5,7 @@ import com.usermanagement.api.exceptions.UserNotFoundException;
 import com.usermanagement.api.models.User;
 import com.usermanagement.api.models.enums.Role;
 import com.usermanagement.api.repositories.UserRepository;
+import com.usermanagement.api.services.EmailBloomFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,6 +33,7 @@ public class ModernUserService {
     private final PasswordEncoder passwordEncoder;
     private final UserValidationService validationService;
     private final NotificationService notificationService;
+    private final EmailBloomFilter emailBloomFilter;
     
     /**
      * Create a new user with proper validation and error handling
@@ -45,12 +47,6 @@ public class ModernUserService {
         // Validate input
         validateUserForCreation(user);
         
-        // Check if user already exists
-        if (userRepository.existsByEmail(user.getEmail())) {
-            log.warn("Attempted to create user with existing email: {}", user.getEmail());
-            throw new EmailAlreadyExistsException("Email already exists: " + user.getEmail());
-        }
-        
         // Encode password
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         
@@ -59,19 +55,23 @@ public class ModernUserService {
             user.setRole(Role.USER);
         }
         
-        // Save user
-        User savedUser = userRepository.save(user);
+        // Insert in one statement; a taken email is rejected by the database, not a prior lookup
+        if (userRepository.insertIfAbsent(user).isEmpty()) {
+            log.warn("Attempted to create user with existing email: {}", user.getEmail());
+            throw new EmailAlreadyExistsException("Email already exists: " + user.getEmail());
+        }
+        emailBloomFilter.put(user.getEmail());
         
         // Send welcome notification
         try {
-            notificationService.sendWelcomeEmail(savedUser.getEmail(), savedUser.getFirstName());
+            notificationService.sendWelcomeEmail(user.getEmail(), user.getFirstName());
         } catch (Exception e) {
             log.error("Failed to send welcome email, but user was created successfully", e);
             // Don't fail the user creation if notification fails
         }
         
-        log.info("Successfully created user with ID: {}", savedUser.getId());
-        return savedUser;
+        log.info("Successfully created user with ID: {}", user.getId());
+        return user;
     }
     
     /**
@@ -119,11 +119,13 @@ public class ModernUserService {
             }
             
             // Check if new email already exists
+            // Always probed: the node-local Bloom filter can miss emails set elsewhere
             if (userRepository.existsByEmail(userDetails.getEmail())) {
                 throw new EmailAlreadyExistsException("Email already exists: " + userDetails.getEmail());
             }
             
             existingUser.setEmail(userDetails.getEmail());
+            emailBloomFilter.put(userDetails.getEmail());
         }
         
         // Update other fields
@@ -143,7 +145,7 @@ public class ModernUserService {
             existingUser.setLastName(userDetails.getLastName());
         }
         
-        // Update password if provided
+        // Update password if provided; encoded once, without a hash-costly comparison first
         if (userDetails.getPassword() != null && !userDetails.getPassword().isEmpty()) {
             UserValidationService.ValidationResult validation = validationService.validatePassword(userDetails.getPassword());
             if (!validation.isValid()) {
@@ -207,28 +209,16 @@ public class ModernUserService {
     }
     
     /**
-     * Validate user data for creation
+     * Validate user data for creation in one aggregate check. Errors are declared
+     * in check order (email, password, first name, last name), so the lowest set
+     * bit is the error the per-field checks used to report first.
      * @param user User to validate
      */
     private void validateUserForCreation(User user) {
-        UserValidationService.ValidationResult emailValidation = validationService.validateEmail(user.getEmail());
-        if (!emailValidation.isValid()) {
-            throw new IllegalArgumentException(emailValidation.getErrorMessage());
-        }
-        
-        UserValidationService.ValidationResult passwordValidation = validationService.validatePassword(user.getPassword());
-        if (!passwordValidation.isValid()) {
-            throw new IllegalArgumentException(passwordValidation.getErrorMessage());
-        }
-        
-        UserValidationService.ValidationResult firstNameValidation = validationService.validateName(user.getFirstName());
-        if (!firstNameValidation.isValid()) {
-            throw new IllegalArgumentException(firstNameValidation.getErrorMessage());
-        }
-        
-        UserValidationService.ValidationResult lastNameValidation = validationService.validateName(user.getLastName());
-        if (!lastNameValidation.isValid()) {
-            throw new IllegalArgumentException(lastNameValidation.getErrorMessage());
+        int errors = validationService.validateUser(
+                user.getEmail(), user.getPassword(), user.getFirstName(), user.getLastName());
+        if (errors != 0) {
+            throw new IllegalArgumentException(ValidationError.fromMask(Integer.lowestOneBit(errors)).get(0).getMessage());
         }
     }
 } 
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.usermanagement.api.modern;
 
+import com.usermanagement.api.features.notifications.NotificationDispatcher;
+import com.usermanagement.api.features.notifications.NotificationMessage;
+import com.usermanagement.api.features.notifications.NotificationType;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -7,25 +11,24 @@ import org.springframework.stereotype.Service;
  * Modernized Notification Service
  * Follows Single Responsibility Principle - only handles notifications
  * Follows Open/Closed Principle - easy to extend with new notification types
+ *
+ * Notifications are queued on the {@link NotificationDispatcher} and sent in
+ * batches in the background, so callers never wait on the mail server.
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
     
+    private final NotificationDispatcher notificationDispatcher;
+    
     /**
      * Send welcome email notification
      * @param email Recipient email
      * @param userName User's name
      */
     public void sendWelcomeEmail(String email, String userName) {
-        try {
-            log.info("Sending welcome email to: {} for user: {}", email, userName);
-            // In a real implementation, this would use a proper email service
-            // For demo purposes, we just log the action
-        } catch (Exception e) {
-            log.error("Failed to send welcome email to: {}", email, e);
-            throw new NotificationException("Failed to send welcome email", e);
-        }
+        send(NotificationType.WELCOME, email, userName);
     }
     
     /**
@@ -33,13 +36,7 @@ public class NotificationService {
      * @param email Recipient email
      */
     public void sendPasswordChangeNotification(String email) {
-        try {
-            log.info("Sending password change notification to: {}", email);
-            // In a real implementation, this would use a proper email service
-        } catch (Exception e) {
-            log.error("Failed to send password change notification to: {}", email, e);
-            throw new NotificationException("Failed to send password change notification", e);
-        }
+        send(NotificationType.PASSWORD_CHANGED, email, null);
     }
     
     /**
@@ -47,12 +44,20 @@ public class NotificationService {
      * @param email Recipient email
      */
     public void sendAccountLockedNotification(String email) {
+        send(NotificationType.ACCOUNT_LOCKED, email, null);
+    }
+    
+    private void send(NotificationType type, String email, String userName) {
         try {
-            log.info("Sending account locked notification to: {}", email);
-            // In a real implementation, this would use a proper email service
+            log.debug("Queueing {} notification to: {}", type, email);
+            notificationDispatcher.enqueue(NotificationMessage.builder()
+                    .type(type)
+                    .recipient(email)
+                    .recipientName(userName)
+                    .build());
         } catch (Exception e) {
-            log.error("Failed to send account locked notification to: {}", email, e);
-            throw new NotificationException("Failed to send account locked notification", e);
+            log.error("Failed to queue {} notification to: {}", type, email, e);
+            throw new NotificationException("Failed to queue " + type + " notification", e);
         }
     }
     
@@ -64,4 +69,4 @@ public class NotificationService {
             super(message, cause);
         }
     }
-} 
\ No newline at end of file
+} 
@@ -3,18 +3,22 @@ package com.usermanagement.api.modern;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.regex.Pattern;
-
 /**
  * Modernized User Validation Service
  * Follows Single Responsibility Principle - only handles validation
+ *
+ * Runs on every create, update and bulk import, so no check allocates: results
+ * are shared instances (one success, one failure per {@link ValidationError}),
+ * the email is scanned by hand instead of through a regex matcher, and names are
+ * measured without trimming copies. {@link #validateUser} checks a whole user in
+ * one call and reports every error as a bitmap.
  */
 @Service
 @Slf4j
 public class UserValidationService {
     
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
-    private static final int MIN_PASSWORD_LENGTH = 6;
+    static final int MIN_PASSWORD_LENGTH = 6;
+    private static final int MIN_NAME_LENGTH = 2;
     
     /**
      * Validate user email
@@ -22,15 +26,8 @@ public class UserValidationService {
      * @return Validation result
      */
     public ValidationResult validateEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            return ValidationResult.failure("Email is required");
-        }
-        
-        if (!EMAIL_PATTERN.matcher(email).matches()) {
-            return ValidationResult.failure("Invalid email format");
-        }
-        
-        return ValidationResult.success();
+        ValidationError error = checkEmail(email);
+        return error == null ? ValidationResult.success() : error.result();
     }
     
     /**
@@ -39,11 +36,7 @@ public class UserValidationService {
      * @return Validation result
      */
     public ValidationResult validatePassword(String password) {
-        if (password == null || password.length() < MIN_PASSWORD_LENGTH) {
-            return ValidationResult.failure("Password must be at least " + MIN_PASSWORD_LENGTH + " characters");
-        }
-        
-        return ValidationResult.success();
+        return isPasswordValid(password) ? ValidationResult.success() : ValidationError.PASSWORD_TOO_SHORT.result();
     }
     
     /**
@@ -52,21 +45,104 @@ public class UserValidationService {
      * @return Validation result
      */
     public ValidationResult validateName(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            return ValidationResult.failure("Name is required");
+        int length = trimmedLength(name);
+        if (length == 0) {
+            return ValidationError.FIRST_NAME_REQUIRED.result();
         }
-        
-        if (name.trim().length() < 2) {
-            return ValidationResult.failure("Name must be at least 2 characters");
+        if (length < MIN_NAME_LENGTH) {
+            return ValidationError.FIRST_NAME_TOO_SHORT.result();
         }
-        
         return ValidationResult.success();
     }
     
+    /**
+     * Validate every field of a user in one pass
+     * @return Bitmap of {@link ValidationError#mask()} values, 0 if the user is valid
+     */
+    public int validateUser(String email, String password, String firstName, String lastName) {
+        int errors = 0;
+        ValidationError emailError = checkEmail(email);
+        if (emailError != null) {
+            errors |= emailError.mask();
+        }
+        if (!isPasswordValid(password)) {
+            errors |= ValidationError.PASSWORD_TOO_SHORT.mask();
+        }
+        errors |= nameErrors(firstName, ValidationError.FIRST_NAME_REQUIRED, ValidationError.FIRST_NAME_TOO_SHORT);
+        errors |= nameErrors(lastName, ValidationError.LAST_NAME_REQUIRED, ValidationError.LAST_NAME_TOO_SHORT);
+        return errors;
+    }
+    
+    /**
+     * Same acceptance as {@code ^[A-Za-z0-9+_.-]+@(.+)$}: a non-empty local part of
+     * letters, digits and {@code + _ . -}, an '@', then at least one character that
+     * is not a line terminator
+     */
+    private static ValidationError checkEmail(String email) {
+        if (trimmedLength(email) == 0) {
+            return ValidationError.EMAIL_REQUIRED;
+        }
+        int length = email.length();
+        int at = 0;
+        while (at < length && isLocalPartChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at == length || email.charAt(at) != '@' || at == length - 1) {
+            return ValidationError.EMAIL_INVALID;
+        }
+        for (int i = at + 1; i < length; i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                return ValidationError.EMAIL_INVALID;
+            }
+        }
+        return null;
+    }
+    
+    private static boolean isLocalPartChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+    
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+    
+    private static boolean isPasswordValid(String password) {
+        return password != null && password.length() >= MIN_PASSWORD_LENGTH;
+    }
+    
+    private static int nameErrors(String name, ValidationError required, ValidationError tooShort) {
+        int length = trimmedLength(name);
+        if (length == 0) {
+            return required.mask();
+        }
+        return length < MIN_NAME_LENGTH ? tooShort.mask() : 0;
+    }
+    
+    /**
+     * Length of {@code value.trim()} without the copy; 0 for null
+     */
+    private static int trimmedLength(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end - start;
+    }
+    
     /**
      * Validation result class
      */
     public static class ValidationResult {
+        private static final ValidationResult SUCCESS = new ValidationResult(true, null);
+        
         private final boolean valid;
         private final String errorMessage;
         
@@ -76,7 +152,7 @@ public class UserValidationService {
         }
         
         public static ValidationResult success() {
-            return new ValidationResult(true, null);
+            return SUCCESS;
         }
         
         public static ValidationResult failure(String errorMessage) {
@@ -91,4 +167,4 @@ public class UserValidationService {
             return errorMessage;
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package com.usermanagement.api.modern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything {@link UserValidationService} can reject, one bit each, so the
+ * errors of a whole user fit in an int (0 means valid)
+ */
+public enum ValidationError {
+    EMAIL_REQUIRED("email", "Email is required"),
+    EMAIL_INVALID("email", "Invalid email format"),
+    PASSWORD_TOO_SHORT("password", "Password must be at least " + UserValidationService.MIN_PASSWORD_LENGTH + " characters"),
+    FIRST_NAME_REQUIRED("firstName", "Name is required"),
+    FIRST_NAME_TOO_SHORT("firstName", "Name must be at least 2 characters"),
+    LAST_NAME_REQUIRED("lastName", "Name is required"),
+    LAST_NAME_TOO_SHORT("lastName", "Name must be at least 2 characters"),
+    EMAIL_DUPLICATE_IN_BATCH("email", "Email appears more than once in the batch"),
+    EMAIL_TAKEN("email", "Email already exists");
+
+    private static final ValidationError[] VALUES = values();
+
+    private final String field;
+    private final String message;
+    private final UserValidationService.ValidationResult result;
+
+    ValidationError(String field, String message) {
+        this.field = field;
+        this.message = message;
+        this.result = UserValidationService.ValidationResult.failure(message);
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Shared failure result carrying this error's message
+     */
+    UserValidationService.ValidationResult result() {
+        return result;
+    }
+
+    /**
+     * @param errors Bitmap returned by {@link UserValidationService#validateUser}
+     * @return The errors it contains, in declaration order
+     */
+    public static List<ValidationError> fromMask(int errors) {
+        List<ValidationError> list = new ArrayList<>(Integer.bitCount(errors));
+        for (ValidationError error : VALUES) {
+            if ((errors & error.mask()) != 0) {
+                list.add(error);
+            }
+        }
+        return list;
+    }
+}
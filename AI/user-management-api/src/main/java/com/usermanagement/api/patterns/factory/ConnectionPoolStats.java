@@ -0,0 +1,19 @@
+package com.usermanagement.api.patterns.factory;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Snapshot of one pooled DataSource of the {@link DatabaseConnectionFactory}
+ */
+@Data
+@Builder
+public class ConnectionPoolStats {
+    private DatabaseConnection.DatabaseType type;
+    private String url;
+    private int maxPoolSize;
+    private int activeConnections;
+    private int idleConnections;
+    private int totalConnections;
+    private int threadsAwaitingConnection;
+}
@@ -8,9 +8,10 @@ import java.time.LocalDateTime;
 /**
  * Factory Pattern: Database Connection
  * Represents a database connection with metadata
+ * Closing it returns the underlying connection to its pool.
  */
 @Data
-public class DatabaseConnection {
+public class DatabaseConnection implements AutoCloseable {
     private final Connection connection;
     private final DatabaseType type;
     private final String url;
@@ -32,6 +33,7 @@ public class DatabaseConnection {
         ORACLE
     }
     
+    @Override
     public void close() {
         try {
             if (connection != null && !connection.isClosed()) {
@@ -1,112 +1,172 @@
 package com.usermanagement.api.patterns.factory;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory Pattern: Database Connection Factory
  * Creates different types of database connections based on configuration
+ *
+ * Connections come from one pooled {@link HikariDataSource} per database type,
+ * created on first use, so ad-hoc JDBC code borrows warm connections instead of
+ * opening a physical connection per call. Closing a {@link DatabaseConnection}
+ * returns it to its pool.
  */
 @Component
 @Slf4j
 public class DatabaseConnectionFactory {
-    
-    @Value("${spring.datasource.url}")
-    private String databaseUrl;
-    
-    @Value("${spring.datasource.username}")
-    private String username;
-    
-    @Value("${spring.datasource.password}")
-    private String password;
-    
+
+    private final String databaseUrl;
+    private final String username;
+    private final String password;
+    private final int maxPoolSize;
+    private final int minIdle;
+    private final long connectionTimeoutMillis;
+    private final long validationTimeoutMillis;
+    private final long leakDetectionThresholdMillis;
+
+    private final Map<DatabaseConnection.DatabaseType, HikariDataSource> pools = new ConcurrentHashMap<>();
+
+    public DatabaseConnectionFactory(
+            @Value("${spring.datasource.url}") String databaseUrl,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${users.connection-pools.max-size:5}") int maxPoolSize,
+            @Value("${users.connection-pools.min-idle:0}") int minIdle,
+            @Value("${users.connection-pools.connection-timeout-millis:5000}") long connectionTimeoutMillis,
+            @Value("${users.connection-pools.validation-timeout-millis:1000}") long validationTimeoutMillis,
+            @Value("${users.connection-pools.leak-detection-threshold-millis:30000}") long leakDetectionThresholdMillis) {
+        this.databaseUrl = databaseUrl;
+        this.username = username;
+        this.password = password;
+        this.maxPoolSize = maxPoolSize;
+        this.minIdle = minIdle;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        this.validationTimeoutMillis = validationTimeoutMillis;
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+    }
+
     /**
      * Create a database connection based on the specified type
      * @param type The type of database connection to create
-     * @return DatabaseConnection object
+     * @return DatabaseConnection object; close it to return the connection to the pool
      * @throws SQLException if connection fails
      */
     public DatabaseConnection createConnection(DatabaseConnection.DatabaseType type) throws SQLException {
-        log.info("Creating database connection for type: {}", type);
-        
+        log.debug("Borrowing database connection for type: {}", type);
+
+        HikariDataSource dataSource = getDataSource(type);
+        Connection connection = dataSource.getConnection();
+        return new DatabaseConnection(connection, type, dataSource.getJdbcUrl());
+    }
+
+    /**
+     * Create a connection using the default database type (PostgreSQL)
+     */
+    public DatabaseConnection createDefaultConnection() throws SQLException {
+        return createConnection(DatabaseConnection.DatabaseType.POSTGRESQL);
+    }
+
+    /**
+     * Get active, idle and waiting counts of every pool created so far
+     * @return Statistics per database type
+     */
+    public List<ConnectionPoolStats> getPoolStats() {
+        List<ConnectionPoolStats> stats = new ArrayList<>();
+        for (DatabaseConnection.DatabaseType type : DatabaseConnection.DatabaseType.values()) {
+            HikariDataSource dataSource = pools.get(type);
+            if (dataSource == null) {
+                continue;
+            }
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            stats.add(ConnectionPoolStats.builder()
+                    .type(type)
+                    .url(dataSource.getJdbcUrl())
+                    .maxPoolSize(dataSource.getMaximumPoolSize())
+                    .activeConnections(pool == null ? 0 : pool.getActiveConnections())
+                    .idleConnections(pool == null ? 0 : pool.getIdleConnections())
+                    .totalConnections(pool == null ? 0 : pool.getTotalConnections())
+                    .threadsAwaitingConnection(pool == null ? 0 : pool.getThreadsAwaitingConnection())
+                    .build());
+        }
+        return stats;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        pools.values().forEach(HikariDataSource::close);
+        pools.clear();
+    }
+
+    private HikariDataSource getDataSource(DatabaseConnection.DatabaseType type) throws SQLException {
+        HikariDataSource dataSource = pools.get(type);
+        return dataSource != null ? dataSource : createDataSourceOnce(type);
+    }
+
+    private synchronized HikariDataSource createDataSourceOnce(DatabaseConnection.DatabaseType type)
+            throws SQLException {
+        HikariDataSource dataSource = pools.get(type);
+        if (dataSource == null) {
+            dataSource = createDataSource(type);
+            pools.put(type, dataSource);
+            log.info("Created {} connection pool (max size {}) for {}", type, maxPoolSize, dataSource.getJdbcUrl());
+        }
+        return dataSource;
+    }
+
+    private HikariDataSource createDataSource(DatabaseConnection.DatabaseType type) throws SQLException {
         switch (type) {
             case POSTGRESQL:
-                return createPostgreSQLConnection();
+                return createPool(type, "org.postgresql.Driver", databaseUrl, username, password);
             case MYSQL:
-                return createMySQLConnection();
+                return createPool(type, "com.mysql.cj.jdbc.Driver",
+                        databaseUrl.replace("postgresql", "mysql"), username, password);
             case H2:
-                return createH2Connection();
+                return createPool(type, "org.h2.Driver", "jdbc:h2:mem:testdb", "sa", "");
             case ORACLE:
-                return createOracleConnection();
+                return createPool(type, "oracle.jdbc.driver.OracleDriver",
+                        "jdbc:oracle:thin:@localhost:1521:xe", username, password);
             default:
                 throw new IllegalArgumentException("Unsupported database type: " + type);
         }
     }
-    
-    /**
-     * Create a PostgreSQL connection
-     */
-    private DatabaseConnection createPostgreSQLConnection() throws SQLException {
-        try {
-            Class.forName("org.postgresql.Driver");
-            Connection connection = DriverManager.getConnection(databaseUrl, username, password);
-            return new DatabaseConnection(connection, DatabaseConnection.DatabaseType.POSTGRESQL, databaseUrl);
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("PostgreSQL driver not found", e);
-        }
-    }
-    
-    /**
-     * Create a MySQL connection
-     */
-    private DatabaseConnection createMySQLConnection() throws SQLException {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            String mysqlUrl = databaseUrl.replace("postgresql", "mysql");
-            Connection connection = DriverManager.getConnection(mysqlUrl, username, password);
-            return new DatabaseConnection(connection, DatabaseConnection.DatabaseType.MYSQL, mysqlUrl);
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("MySQL driver not found", e);
-        }
-    }
-    
-    /**
-     * Create an H2 connection
-     */
-    private DatabaseConnection createH2Connection() throws SQLException {
+
+    private HikariDataSource createPool(DatabaseConnection.DatabaseType type, String driverClassName,
+                                        String url, String user, String pass) throws SQLException {
         try {
-            Class.forName("org.h2.Driver");
-            String h2Url = "jdbc:h2:mem:testdb";
-            Connection connection = DriverManager.getConnection(h2Url, "sa", "");
-            return new DatabaseConnection(connection, DatabaseConnection.DatabaseType.H2, h2Url);
+            Class.forName(driverClassName);
         } catch (ClassNotFoundException e) {
-            throw new SQLException("H2 driver not found", e);
+            throw new SQLException(type + " driver not found", e);
         }
-    }
-    
-    /**
-     * Create an Oracle connection
-     */
-    private DatabaseConnection createOracleConnection() throws SQLException {
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("factory-" + type.name().toLowerCase());
+        config.setDriverClassName(driverClassName);
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(pass);
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setMinimumIdle(minIdle);
+        config.setConnectionTimeout(connectionTimeoutMillis);
+        config.setValidationTimeout(validationTimeoutMillis);
+        config.setLeakDetectionThreshold(leakDetectionThresholdMillis);
+        config.setRegisterMbeans(false);
         try {
-            Class.forName("oracle.jdbc.driver.OracleDriver");
-            String oracleUrl = "jdbc:oracle:thin:@localhost:1521:xe";
-            Connection connection = DriverManager.getConnection(oracleUrl, username, password);
-            return new DatabaseConnection(connection, DatabaseConnection.DatabaseType.ORACLE, oracleUrl);
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("Oracle driver not found", e);
+            return new HikariDataSource(config);
+        } catch (RuntimeException e) {
+            throw new SQLException("Could not create " + type + " connection pool", e);
         }
     }
-    
-    /**
-     * Create a connection using the default database type (PostgreSQL)
-     */
-    public DatabaseConnection createDefaultConnection() throws SQLException {
-        return createConnection(DatabaseConnection.DatabaseType.POSTGRESQL);
-    }
-} 
\ No newline at end of file
+}
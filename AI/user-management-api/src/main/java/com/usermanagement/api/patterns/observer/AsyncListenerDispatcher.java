@@ -0,0 +1,163 @@
+package com.usermanagement.api.patterns.observer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers events to a single listener on dedicated worker threads.
+ *
+ * Events are partitioned into lanes by user, each lane being a bounded queue
+ * drained by one thread, so events of the same user reach the listener in
+ * publication order while different users are processed in parallel.
+ * Each delivery goes through the listener's {@link ListenerGuard}.
+ */
+@Slf4j
+class AsyncListenerDispatcher {
+
+    /**
+     * What to do when the lane of an event is full
+     */
+    enum OverflowPolicy {
+        /** Wait up to the offer timeout for space, then drop */
+        BLOCK,
+        /** Drop the event immediately */
+        DROP,
+        /** Deliver the event on the publishing thread (may reorder events of that user) */
+        CALLER_RUNS
+    }
+
+    private final UserEventListener listener;
+    private final ListenerGuard guard;
+    private final Lane[] lanes;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutMillis;
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private volatile long lastLagNanos;
+    private volatile boolean running = true;
+
+    AsyncListenerDispatcher(ListenerGuard guard, int laneCount, int laneCapacity,
+                            OverflowPolicy overflowPolicy, long offerTimeoutMillis) {
+        this.guard = guard;
+        this.listener = guard.getListener();
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(laneCapacity, "user-events-" + listener.getListenerName() + "-" + i);
+        }
+    }
+
+    void submit(UserEvent event) {
+        Envelope envelope = new Envelope(event, System.nanoTime());
+        BlockingQueue<Envelope> queue = lanes[laneOf(event)].queue;
+        if (queue.offer(envelope)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    if (queue.offer(envelope, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                drop(event);
+                break;
+            case CALLER_RUNS:
+                deliver(envelope);
+                break;
+            default:
+                drop(event);
+        }
+    }
+
+    int getQueueDepth() {
+        int depth = 0;
+        for (Lane lane : lanes) {
+            depth += lane.queue.size();
+        }
+        return depth;
+    }
+
+    ListenerDispatchStats stats() {
+        return ListenerDispatchStats.builder()
+                .listenerName(listener.getListenerName())
+                .queueDepth(getQueueDepth())
+                .dispatched(dispatched.sum())
+                .dropped(dropped.sum())
+                .failed(failed.sum())
+                .lastLagMillis(TimeUnit.NANOSECONDS.toMillis(lastLagNanos))
+                .maxLagMillis(TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get()))
+                .build();
+    }
+
+    /**
+     * Stop accepting work; workers drain what is already queued and exit
+     */
+    void shutdown() {
+        running = false;
+    }
+
+    private int laneOf(UserEvent event) {
+        Object key = null;
+        if (event.getUser() != null) {
+            key = event.getUser().getId() != null ? event.getUser().getId() : event.getUser().getEmail();
+        }
+        return key == null ? 0 : Math.floorMod(key.hashCode(), lanes.length);
+    }
+
+    private void drop(UserEvent event) {
+        dropped.increment();
+        log.warn("Dropped {} event for listener {}: queue full", event.getType(), listener.getListenerName());
+    }
+
+    private void deliver(Envelope envelope) {
+        long lag = System.nanoTime() - envelope.enqueuedAt();
+        lastLagNanos = lag;
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+        if (guard.invoke(envelope.event())) {
+            dispatched.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    private record Envelope(UserEvent event, long enqueuedAt) {
+    }
+
+    private final class Lane implements Runnable {
+        private final BlockingQueue<Envelope> queue;
+
+        private Lane(int capacity, String threadName) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            Thread worker = new Thread(this, threadName);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        @Override
+        public void run() {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Envelope envelope = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (envelope != null) {
+                        deliver(envelope);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,30 +1,49 @@
 package com.usermanagement.api.patterns.observer;
 
+import com.usermanagement.api.features.notifications.NotificationDispatcher;
+import com.usermanagement.api.features.notifications.NotificationMessage;
+import com.usermanagement.api.features.notifications.NotificationType;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Observer Pattern: Email Notification Listener
  * Sends email notifications when user events occur
+ *
+ * Emails are only queued here; the {@link NotificationDispatcher} batches and
+ * sends them, de-duplicating redeliveries of the same event.
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class EmailNotificationListener implements UserEventListener {
     
+    private static final Set<UserEvent.UserEventType> SUBSCRIBED_TYPES = EnumSet.of(
+            UserEvent.UserEventType.USER_REGISTERED,
+            UserEvent.UserEventType.PASSWORD_CHANGED,
+            UserEvent.UserEventType.ACCOUNT_LOCKED,
+            UserEvent.UserEventType.ACCOUNT_UNLOCKED);
+    
+    private final NotificationDispatcher notificationDispatcher;
+    
     @Override
     public void onUserEvent(UserEvent event) {
         switch (event.getType()) {
             case USER_REGISTERED:
-                sendWelcomeEmail(event);
+                send(NotificationType.WELCOME, event);
                 break;
             case PASSWORD_CHANGED:
-                sendPasswordChangeNotification(event);
+                send(NotificationType.PASSWORD_CHANGED, event);
                 break;
             case ACCOUNT_LOCKED:
-                sendAccountLockedNotification(event);
+                send(NotificationType.ACCOUNT_LOCKED, event);
                 break;
             case ACCOUNT_UNLOCKED:
-                sendAccountUnlockedNotification(event);
+                send(NotificationType.ACCOUNT_UNLOCKED, event);
                 break;
             default:
                 log.debug("No email notification needed for event: {}", event.getType());
@@ -36,24 +55,19 @@ public class EmailNotificationListener implements UserEventListener {
         return "EmailNotificationListener";
     }
     
-    private void sendWelcomeEmail(UserEvent event) {
-        log.info("Sending welcome email to: {}", event.getUser().getEmail());
-        // In a real implementation, this would send an actual email
-        // For demo purposes, we just log the action
-    }
-    
-    private void sendPasswordChangeNotification(UserEvent event) {
-        log.info("Sending password change notification to: {}", event.getUser().getEmail());
-        // In a real implementation, this would send an actual email
-    }
-    
-    private void sendAccountLockedNotification(UserEvent event) {
-        log.info("Sending account locked notification to: {}", event.getUser().getEmail());
-        // In a real implementation, this would send an actual email
+    @Override
+    public Set<UserEvent.UserEventType> getSubscribedEventTypes() {
+        return SUBSCRIBED_TYPES;
     }
     
-    private void sendAccountUnlockedNotification(UserEvent event) {
-        log.info("Sending account unlocked notification to: {}", event.getUser().getEmail());
-        // In a real implementation, this would send an actual email
+    private void send(NotificationType type, UserEvent event) {
+        log.debug("Queueing {} email to: {}", type, event.getUser().getEmail());
+        notificationDispatcher.enqueue(NotificationMessage.builder()
+                .eventId(event.getEventId())
+                .type(type)
+                .userId(event.getUser().getId())
+                .recipient(event.getUser().getEmail())
+                .recipientName(event.getUser().getFirstName())
+                .build());
     }
-} 
\ No newline at end of file
+} 
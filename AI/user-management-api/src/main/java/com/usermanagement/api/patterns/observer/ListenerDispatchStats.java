@@ -0,0 +1,19 @@
+package com.usermanagement.api.patterns.observer;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Snapshot of the asynchronous dispatch state of one listener
+ */
+@Data
+@Builder
+public class ListenerDispatchStats {
+    private String listenerName;
+    private int queueDepth;
+    private long dispatched;
+    private long dropped;
+    private long failed;
+    private long lastLagMillis;
+    private long maxLagMillis;
+}
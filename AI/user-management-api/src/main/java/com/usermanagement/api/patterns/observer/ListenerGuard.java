@@ -0,0 +1,190 @@
+package com.usermanagement.api.patterns.observer;
+
+import com.usermanagement.api.utils.LatencyHistogram;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Isolates one listener from the publisher and from the other listeners.
+ *
+ * Every call passes a bulkhead (a semaphore bounding concurrent calls), then the
+ * listener's {@link CircuitBreaker}. With a timeout configured the listener runs
+ * on its own threads and the caller stops waiting after the timeout; the permit
+ * is only returned when the listener really finishes, so a hung listener ends
+ * up rejected by its bulkhead instead of consuming more threads.
+ */
+@Slf4j
+class ListenerGuard {
+
+    private final UserEventListener listener;
+    private final long timeoutMillis;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentCalls;
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final ExecutorService executor;
+
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+
+    ListenerGuard(UserEventListener listener, ListenerGuardSettings settings) {
+        this.listener = listener;
+        this.timeoutMillis = settings.getTimeoutMillis();
+        this.maxConcurrentCalls = settings.getMaxConcurrentCalls();
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.circuitBreaker = new CircuitBreaker(settings.getSlidingWindowSize(), settings.getMinimumCalls(),
+                settings.getFailureRateThreshold(), settings.getOpenDurationMillis());
+        this.executor = timeoutMillis > 0 ? Executors.newCachedThreadPool(newThreadFactory()) : null;
+    }
+
+    UserEventListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Deliver an event to the listener; never throws
+     * @return true if the listener handled the event successfully
+     */
+    boolean invoke(UserEvent event) {
+        if (!bulkhead.tryAcquire()) {
+            rejected.increment();
+            log.warn("Listener {} rejected event {}: {} calls already in progress",
+                    listener.getListenerName(), event.getType(), maxConcurrentCalls);
+            return false;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            shortCircuited.increment();
+            log.debug("Listener {} circuit is open, skipping event {}", listener.getListenerName(), event.getType());
+            return false;
+        }
+        return executor == null ? invokeInline(event) : invokeWithTimeout(event);
+    }
+
+    ListenerGuardStats stats() {
+        return ListenerGuardStats.builder()
+                .listenerName(listener.getListenerName())
+                .circuitState(circuitBreaker.getState().name())
+                .activeCalls(maxConcurrentCalls - bulkhead.availablePermits())
+                .succeeded(succeeded.sum())
+                .failed(failed.sum())
+                .timedOut(timedOut.sum())
+                .rejected(rejected.sum())
+                .shortCircuited(shortCircuited.sum())
+                .p50Millis(latency.percentileMicros(0.5) / 1000.0)
+                .p99Millis(latency.percentileMicros(0.99) / 1000.0)
+                .maxMillis(latency.maxMicros() / 1000.0)
+                .build();
+    }
+
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean invokeInline(UserEvent event) {
+        long start = System.nanoTime();
+        try {
+            listener.onUserEvent(event);
+            onSuccess(start);
+            return true;
+        } catch (Exception e) {
+            onFailure(start, event, e);
+            return false;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private boolean invokeWithTimeout(UserEvent event) {
+        long start = System.nanoTime();
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<?> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    listener.onUserEvent(event);
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            onFailure(start, event, e);
+            return false;
+        }
+
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            onSuccess(start);
+            return true;
+        } catch (TimeoutException e) {
+            cancel(future, claimed);
+            timedOut.increment();
+            latency.record(System.nanoTime() - start);
+            circuitBreaker.onFailure();
+            log.warn("Listener {} timed out after {} ms on event {}",
+                    listener.getListenerName(), timeoutMillis, event.getType());
+            return false;
+        } catch (ExecutionException e) {
+            onFailure(start, event, e.getCause());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(future, claimed);
+            onFailure(start, event, e);
+            return false;
+        }
+    }
+
+    /**
+     * Interrupt the listener; if it never started, return its bulkhead permit here
+     */
+    private void cancel(Future<?> future, AtomicBoolean claimed) {
+        future.cancel(true);
+        if (claimed.compareAndSet(false, true)) {
+            bulkhead.release();
+        }
+    }
+
+    private void onSuccess(long start) {
+        latency.record(System.nanoTime() - start);
+        succeeded.increment();
+        circuitBreaker.onSuccess();
+    }
+
+    private void onFailure(long start, UserEvent event, Throwable cause) {
+        latency.record(System.nanoTime() - start);
+        failed.increment();
+        circuitBreaker.onFailure();
+        log.error("Error notifying listener {} of event {}", listener.getListenerName(), event.getType(), cause);
+    }
+
+    private ThreadFactory newThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable,
+                    "user-listener-" + listener.getListenerName() + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.usermanagement.api.patterns.observer;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Isolation settings applied to every user event listener
+ */
+@Component
+@Getter
+public class ListenerGuardSettings {
+
+    /** Maximum time a listener may take per event; 0 runs listeners inline without a timeout */
+    private final long timeoutMillis;
+    /** Bulkhead: maximum concurrent calls into one listener */
+    private final int maxConcurrentCalls;
+    /** Failure percentage over the sliding window that opens the circuit */
+    private final int failureRateThreshold;
+    private final int slidingWindowSize;
+    /** Calls needed in the window before the failure rate is evaluated */
+    private final int minimumCalls;
+    /** How long an open circuit rejects calls before letting a trial call through */
+    private final long openDurationMillis;
+
+    public ListenerGuardSettings(
+            @Value("${users.events.listener.timeout-millis:0}") long timeoutMillis,
+            @Value("${users.events.listener.max-concurrent-calls:8}") int maxConcurrentCalls,
+            @Value("${users.events.listener.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${users.events.listener.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${users.events.listener.minimum-calls:10}") int minimumCalls,
+            @Value("${users.events.listener.open-duration-millis:30000}") long openDurationMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumCalls = minimumCalls;
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    /**
+     * Settings with the default values and no timeout
+     */
+    public static ListenerGuardSettings defaults() {
+        return new ListenerGuardSettings(0, 8, 50, 20, 10, 30000);
+    }
+}
@@ -0,0 +1,23 @@
+package com.usermanagement.api.patterns.observer;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Snapshot of the isolation state and latency of one listener
+ */
+@Data
+@Builder
+public class ListenerGuardStats {
+    private String listenerName;
+    private String circuitState;
+    private int activeCalls;
+    private long succeeded;
+    private long failed;
+    private long timedOut;
+    private long rejected;
+    private long shortCircuited;
+    private double p50Millis;
+    private double p99Millis;
+    private double maxMillis;
+}
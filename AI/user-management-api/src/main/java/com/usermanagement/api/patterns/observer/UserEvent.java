@@ -4,22 +4,36 @@ import com.usermanagement.api.models.User;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Observer Pattern: User Event
  * Represents different events that can occur in the user management system
+ *
+ * The event id identifies one occurrence: a redelivery of the same event keeps
+ * its id, a new occurrence of the same type for the same user gets a new one.
  */
 @Data
 public class UserEvent {
+    private final String eventId;
     private final UserEventType type;
     private final User user;
     private final LocalDateTime timestamp;
     private final String description;
     
     public UserEvent(UserEventType type, User user, String description) {
+        this(type, user, description, LocalDateTime.now());
+    }
+    
+    public UserEvent(UserEventType type, User user, String description, LocalDateTime timestamp) {
+        this(UUID.randomUUID().toString(), type, user, description, timestamp);
+    }
+    
+    public UserEvent(String eventId, UserEventType type, User user, String description, LocalDateTime timestamp) {
+        this.eventId = eventId;
         this.type = type;
         this.user = user;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = timestamp;
         this.description = description;
     }
     
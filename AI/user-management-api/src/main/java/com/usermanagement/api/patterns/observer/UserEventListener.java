@@ -1,5 +1,8 @@
 package com.usermanagement.api.patterns.observer;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Observer Pattern: User Event Listener Interface
  * Defines the contract for objects that want to be notified of user events
@@ -16,4 +19,12 @@ public interface UserEventListener {
      * @return Listener name
      */
     String getListenerName();
+    
+    /**
+     * Get the event types this listener wants to receive; must not change after registration
+     * @return Subscribed event types, all types by default
+     */
+    default Set<UserEvent.UserEventType> getSubscribedEventTypes() {
+        return EnumSet.allOf(UserEvent.UserEventType.class);
+    }
 } 
\ No newline at end of file
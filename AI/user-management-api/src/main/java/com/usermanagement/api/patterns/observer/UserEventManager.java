@@ -1,29 +1,89 @@
 package com.usermanagement.api.patterns.observer;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Observer Pattern: User Event Manager
  * Manages user event listeners and notifies them when events occur
+ *
+ * In SYNC mode listeners run on the publishing thread. In ASYNC mode each
+ * listener gets its own bounded, per-user ordered queues and worker threads
+ * (see {@link AsyncListenerDispatcher}), so publishing never waits on a listener
+ * unless the BLOCK overflow policy applies. In both modes every call goes through
+ * the listener's {@link ListenerGuard} (bulkhead, circuit breaker, optional timeout),
+ * so one slow or failing listener cannot hold up the others.
+ *
+ * Listeners only receive the event types they subscribe to. Subscriptions are kept
+ * in an {@link EnumMap} from event type to subscriber array, rebuilt whenever a
+ * listener is added or removed, so dispatch touches only interested listeners and
+ * an event without subscribers is skipped without allocating.
  */
 @Component
 @Slf4j
 public class UserEventManager {
     
+    public enum DispatchMode {
+        SYNC,
+        ASYNC
+    }
+    
     private final List<UserEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<UserEventListener, AsyncListenerDispatcher> dispatchers = new ConcurrentHashMap<>();
+    private final Map<UserEventListener, ListenerGuard> guards = new ConcurrentHashMap<>();
+    private volatile Map<UserEvent.UserEventType, Subscriber[]> subscriptions = buildIndex(List.of());
+    
+    private final DispatchMode dispatchMode;
+    private final int lanesPerListener;
+    private final int queueCapacity;
+    private final AsyncListenerDispatcher.OverflowPolicy overflowPolicy;
+    private final long offerTimeoutMillis;
+    private final ListenerGuardSettings guardSettings;
+    
+    public UserEventManager(
+            ObjectProvider<UserEventListener> listenerBeans,
+            ListenerGuardSettings guardSettings,
+            @Value("${users.events.dispatch-mode:SYNC}") DispatchMode dispatchMode,
+            @Value("${users.events.lanes-per-listener:4}") int lanesPerListener,
+            @Value("${users.events.queue-capacity:1024}") int queueCapacity,
+            @Value("${users.events.overflow-policy:BLOCK}") String overflowPolicy,
+            @Value("${users.events.offer-timeout-millis:50}") long offerTimeoutMillis) {
+        this.dispatchMode = dispatchMode;
+        this.lanesPerListener = lanesPerListener;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = AsyncListenerDispatcher.OverflowPolicy.valueOf(overflowPolicy);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.guardSettings = guardSettings;
+        listenerBeans.orderedStream().forEach(this::addListener);
+    }
     
     /**
      * Add a listener to be notified of user events
      * @param listener The listener to add
      */
     public void addListener(UserEventListener listener) {
+        ListenerGuard guard = new ListenerGuard(listener, guardSettings);
+        guards.put(listener, guard);
+        if (dispatchMode == DispatchMode.ASYNC) {
+            dispatchers.put(listener, new AsyncListenerDispatcher(
+                    guard, lanesPerListener, queueCapacity, overflowPolicy, offerTimeoutMillis));
+        }
         listeners.add(listener);
-        log.info("Added user event listener: {}", listener.getListenerName());
+        rebuildIndex();
+        log.info("Added user event listener: {} ({} dispatch) for {}", listener.getListenerName(), dispatchMode,
+                listener.getSubscribedEventTypes());
     }
     
     /**
@@ -32,6 +92,15 @@ public class UserEventManager {
      */
     public void removeListener(UserEventListener listener) {
         listeners.remove(listener);
+        rebuildIndex();
+        AsyncListenerDispatcher dispatcher = dispatchers.remove(listener);
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        ListenerGuard guard = guards.remove(listener);
+        if (guard != null) {
+            guard.shutdown();
+        }
         log.info("Removed user event listener: {}", listener.getListenerName());
     }
     
@@ -40,16 +109,89 @@ public class UserEventManager {
      * @param event The user event to notify about
      */
     public void notifyListeners(UserEvent event) {
-        log.info("Notifying {} listeners of event: {}", listeners.size(), event.getType());
+        Subscriber[] subscribers = subscriptions.get(event.getType());
+        if (subscribers.length == 0) {
+            return;
+        }
+        log.debug("Notifying {} listeners of event: {}", subscribers.length, event.getType());
+        dispatch(subscribers, event);
+    }
+    
+    /**
+     * Notify all listeners of a batch of user events, in order
+     * @param events The user events to notify about
+     */
+    public void notifyListeners(Collection<UserEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        log.debug("Notifying listeners of {} events", events.size());
         
+        Map<UserEvent.UserEventType, Subscriber[]> index = subscriptions;
+        for (UserEvent event : events) {
+            dispatch(index.get(event.getType()), event);
+        }
+    }
+    
+    /**
+     * Check whether any listener subscribes to an event type, so publishers can
+     * avoid building events nobody receives
+     * @param type The event type
+     * @return true if at least one listener subscribes to the type
+     */
+    public boolean hasSubscribers(UserEvent.UserEventType type) {
+        return subscriptions.get(type).length > 0;
+    }
+    
+    /**
+     * Deliver an event to every listener on the calling thread, regardless of the
+     * dispatch mode, so the caller knows whether delivery succeeded
+     * @param event The user event to deliver
+     * @return true if no listener failed
+     */
+    public boolean deliverSynchronously(UserEvent event) {
+        boolean delivered = true;
+        for (Subscriber subscriber : subscriptions.get(event.getType())) {
+            if (!subscriber.guard().invoke(event)) {
+                delivered = false;
+            }
+        }
+        return delivered;
+    }
+    
+    private void dispatch(Subscriber[] subscribers, UserEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.dispatcher() != null) {
+                subscriber.dispatcher().submit(event);
+            } else {
+                subscriber.guard().invoke(event);
+            }
+        }
+    }
+    
+    private synchronized void rebuildIndex() {
+        List<Subscriber> subscribers = new ArrayList<>();
         for (UserEventListener listener : listeners) {
-            try {
-                listener.onUserEvent(event);
-            } catch (Exception e) {
-                log.error("Error notifying listener {} of event {}", 
-                         listener.getListenerName(), event.getType(), e);
+            ListenerGuard guard = guards.get(listener);
+            if (guard != null) {
+                subscribers.add(new Subscriber(guard, dispatchers.get(listener), listener.getSubscribedEventTypes()));
             }
         }
+        subscriptions = buildIndex(subscribers);
+    }
+    
+    private static Map<UserEvent.UserEventType, Subscriber[]> buildIndex(List<Subscriber> subscribers) {
+        Map<UserEvent.UserEventType, Subscriber[]> index = new EnumMap<>(UserEvent.UserEventType.class);
+        for (UserEvent.UserEventType type : UserEvent.UserEventType.values()) {
+            index.put(type, subscribers.stream()
+                    .filter(subscriber -> subscriber.types().contains(type))
+                    .toArray(Subscriber[]::new));
+        }
+        return index;
+    }
+    
+    private record Subscriber(ListenerGuard guard, AsyncListenerDispatcher dispatcher,
+                              Set<UserEvent.UserEventType> types) {
     }
     
     /**
@@ -59,4 +201,40 @@ public class UserEventManager {
     public int getListenerCount() {
         return listeners.size();
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Get queue depth and lag per listener; empty in SYNC mode
+     * @return Dispatch statistics of every asynchronous listener
+     */
+    public List<ListenerDispatchStats> getDispatchStats() {
+        List<ListenerDispatchStats> stats = new ArrayList<>();
+        for (UserEventListener listener : listeners) {
+            AsyncListenerDispatcher dispatcher = dispatchers.get(listener);
+            if (dispatcher != null) {
+                stats.add(dispatcher.stats());
+            }
+        }
+        return stats;
+    }
+    
+    /**
+     * Get circuit state, failure counts and latency percentiles per listener
+     * @return Guard statistics of every listener
+     */
+    public List<ListenerGuardStats> getGuardStats() {
+        List<ListenerGuardStats> stats = new ArrayList<>();
+        for (UserEventListener listener : listeners) {
+            ListenerGuard guard = guards.get(listener);
+            if (guard != null) {
+                stats.add(guard.stats());
+            }
+        }
+        return stats;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        dispatchers.values().forEach(AsyncListenerDispatcher::shutdown);
+        guards.values().forEach(ListenerGuard::shutdown);
+    }
+}
@@ -1,24 +1,97 @@
 package com.usermanagement.api.repositories;
 
+import com.usermanagement.api.dto.DomainCount;
+import com.usermanagement.api.dto.UserResponse;
+import com.usermanagement.api.dto.UserSummary;
 import com.usermanagement.api.models.User;
 import com.usermanagement.api.models.enums.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>,
+        UserRepositoryCustom {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    /**
+     * Select only the {@link UserResponse} columns of the user with this email
+     */
+    @Query("SELECT new com.usermanagement.api.dto.UserResponse(u.id, u.email, u.firstName, u.lastName, "
+            + "u.role, u.enabled, u.createdAt, u.updatedAt, u.version) FROM User u WHERE u.email = :email")
+    Optional<UserResponse> findResponseByEmail(@Param("email") String email);
+
+    /**
+     * The given emails that already belong to a user, in one query
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.email FROM User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllEmails();
+
+    /**
+     * Page through users selecting only the {@link UserSummary} columns
+     */
+    Page<UserSummary> findAllSummariesBy(Pageable pageable);
+
+    /**
+     * Keyset page of {@link UserSummary} projections ordered by id
+     */
+    List<UserSummary> findSummariesByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    List<UserSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * Keyset page, by id, of the users written at or after a point in time
+     */
+    List<UserSummary> findSummariesByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            LocalDateTime since, Long afterId, Pageable pageable);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
     
     // Analytics methods
+    @Query("SELECT new com.usermanagement.api.dto.DomainCount(u.emailDomain, COUNT(u)) FROM User u "
+            + "WHERE u.emailDomain IS NOT NULL GROUP BY u.emailDomain ORDER BY COUNT(u) DESC, u.emailDomain")
+    List<DomainCount> countUsersByEmailDomain();
+
     long countByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
     long countByCreatedAtBefore(LocalDateTime date);
     long countByCreatedAtAfter(LocalDateTime date);
     long countByRoleAndCreatedAtBetween(Role role, LocalDateTime startDate, LocalDateTime endDate);
     long countByRoleAndCreatedAtBefore(Role role, LocalDateTime date);
+
+    // Bulk administrative methods
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.enabled = :enabled, u.updatedAt = :updatedAt, u.version = u.version + 1 "
+            + "WHERE u.id IN :ids")
+    int updateEnabledByIdIn(@Param("ids") Collection<Long> ids, @Param("enabled") boolean enabled,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.role = :role, u.updatedAt = :updatedAt, u.version = u.version + 1 "
+            + "WHERE u.id IN :ids")
+    int updateRoleByIdIn(@Param("ids") Collection<Long> ids, @Param("role") Role role,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 } 
\ No newline at end of file
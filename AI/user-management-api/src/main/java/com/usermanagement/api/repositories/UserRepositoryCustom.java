@@ -0,0 +1,41 @@
+package com.usermanagement.api.repositories;
+
+import com.usermanagement.api.models.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Custom query fragment for {@link UserRepository}
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Keyset-paged lookup of the users matching a specification.
+     * Only id and email are selected; the returned users are detached stubs.
+     * @param spec Specification to match
+     * @param afterId Only users with a greater id are returned
+     * @param limit Maximum number of users to return
+     * @return Matching users ordered by id
+     */
+    List<User> findKeysAfter(Specification<User> spec, long afterId, int limit);
+
+    /**
+     * Users matching a specification through a server-side cursor, so the filter
+     * runs in the database and only matching rows are transferred. Entities are
+     * loaded read-only; the stream must be consumed and closed inside a transaction.
+     * @param spec Specification to match
+     * @return Matching users
+     */
+    Stream<User> streamMatching(Specification<User> spec);
+
+    /**
+     * Insert a new user in a single statement unless the email is already taken.
+     * Runs as plain JDBC: the user is not attached to the persistence context.
+     * @param user User to insert; on success its id, version and timestamps are set
+     * @return Id of the new row, or empty if a user with the email already exists
+     */
+    Optional<Long> insertIfAbsent(User user);
+}
@@ -0,0 +1,147 @@
+package com.usermanagement.api.repositories;
+
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String INSERT_USER = "INSERT INTO users "
+            + "(id, email, email_domain, password, first_name, last_name, role, enabled, created_at, updated_at, version) "
+            + "VALUES (%s, :email, :emailDomain, :password, :firstName, :lastName, :role, :enabled, :now, :now, 0)";
+
+    private static final String POSTGRES_INSERT_IF_ABSENT = INSERT_USER.formatted("nextval('users_seq')")
+            + " ON CONFLICT (email) DO NOTHING RETURNING id";
+
+    private static final String STANDARD_INSERT = INSERT_USER.formatted("NEXT VALUE FOR users_seq");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public UserRepositoryCustomImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<User> findKeysAfter(Specification<User> spec, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> root = query.from(User.class);
+
+        query.multiselect(root.get("id"), root.get("email"))
+                .where(cb.and(
+                        cb.greaterThan(root.get("id"), afterId),
+                        spec.toPredicate(root, query, cb)))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(tuple -> User.builder()
+                        .id(tuple.get(0, Long.class))
+                        .email(tuple.get(1, String.class))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public Stream<User> streamMatching(Specification<User> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> root = query.from(User.class);
+        query.select(root).where(spec.toPredicate(root, query, cb));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 1000)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Optional<Long> insertIfAbsent(User user) {
+        if (user.getRole() == null) {
+            user.setRole(Role.USER);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("email", user.getEmail())
+                .addValue("emailDomain", User.emailDomainOf(user.getEmail()))
+                .addValue("password", user.getPassword())
+                .addValue("firstName", user.getFirstName())
+                .addValue("lastName", user.getLastName())
+                .addValue("role", user.getRole().name())
+                .addValue("enabled", user.isEnabled())
+                .addValue("now", Timestamp.valueOf(now));
+
+        // Plain JDBC bypasses Hibernate's auto-flush; make pending deletes and updates visible first
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+        Optional<Long> id = isPostgres()
+                ? jdbcTemplate.queryForList(POSTGRES_INSERT_IF_ABSENT, params, Long.class).stream().findFirst()
+                : insertOrReject(params);
+        id.ifPresent(value -> {
+            user.setId(value);
+            user.setEmailDomain(User.emailDomainOf(user.getEmail()));
+            user.setVersion(0L);
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+        });
+        return id;
+    }
+
+    /**
+     * Without ON CONFLICT the unique index on email still rejects the row in the same round trip
+     */
+    private Optional<Long> insertOrReject(MapSqlParameterSource params) {
+        try {
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(STANDARD_INSERT, params, keyHolder, new String[]{"id"});
+            return Optional.ofNullable(keyHolder.getKeyAs(Long.class));
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource,
+                        DatabaseMetaData::getDatabaseProductName);
+                result = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (MetaDataAccessException e) {
+                result = false;
+            }
+            postgres = result;
+        }
+        return result;
+    }
+}
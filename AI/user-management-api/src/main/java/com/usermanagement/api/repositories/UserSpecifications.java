@@ -0,0 +1,76 @@
+package com.usermanagement.api.repositories;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.models.User;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JPA specifications translating a {@link UserFilter} into SQL predicates.
+ * {@link com.usermanagement.api.utils.UserFilterPredicates} compiles the same
+ * filter, with the same semantics, for users that are already in memory.
+ *
+ * The domain criterion uses the indexed email_domain column, and falls back to
+ * the email itself for rows whose domain has not been backfilled yet, so bulk
+ * changes and analytics never skip them.
+ */
+public final class UserSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private UserSpecifications() {
+    }
+
+    /**
+     * Build a specification matching every criterion set on the filter
+     * @param filter Filter to translate
+     * @return Specification combining the criteria with AND
+     */
+    public static Specification<User> matching(UserFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getRole() != null) {
+                predicates.add(cb.equal(root.get("role"), filter.getRole()));
+            }
+            if (filter.getEnabled() != null) {
+                predicates.add(cb.equal(root.get("enabled"), filter.getEnabled()));
+            }
+            if (filter.getEmailDomain() != null) {
+                String domain = filter.getEmailDomain().toLowerCase(Locale.ROOT);
+                predicates.add(cb.or(
+                        cb.equal(root.get("emailDomain"), domain),
+                        cb.and(cb.isNull(root.get("emailDomain")),
+                                cb.like(cb.lower(root.get("email")), "%@" + escapeLike(domain), LIKE_ESCAPE))));
+            }
+            if (filter.getCreatedAfter() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedAfter()));
+            }
+            if (filter.getCreatedBefore() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedBefore()));
+            }
+            if (filter.getUpdatedAfter() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("updatedAt"), filter.getUpdatedAfter()));
+            }
+            if (filter.getInactiveSince() != null) {
+                predicates.add(cb.lessThan(root.get("updatedAt"), filter.getInactiveSince()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -4,13 +4,16 @@ import com.usermanagement.api.dto.AuthenticationRequest;
 import com.usermanagement.api.dto.UserRegistrationRequest;
 import com.usermanagement.api.exceptions.EmailAlreadyExistsException;
 import com.usermanagement.api.exceptions.UserNotFoundException;
+import com.usermanagement.api.features.outbox.UserEventOutbox;
 import com.usermanagement.api.models.User;
+import com.usermanagement.api.patterns.observer.UserEvent;
 import com.usermanagement.api.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -20,12 +23,11 @@ public class AuthenticationService {
     private final UserRepository userRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final EmailBloomFilter emailBloomFilter;
+    private final UserEventOutbox userEventOutbox;
 
+    @Transactional
     public User register(UserRegistrationRequest request) {
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new EmailAlreadyExistsException("Email already exists");
-        }
-
         User user = User.builder()
                 .email(request.getEmail())
                 .password(passwordEncoder.encode(request.getPassword()))
@@ -33,7 +35,12 @@ public class AuthenticationService {
                 .lastName(request.getLastName())
                 .build();
 
-        return userRepository.save(user);
+        if (userRepository.insertIfAbsent(user).isEmpty()) {
+            throw new EmailAlreadyExistsException("Email already exists");
+        }
+        emailBloomFilter.put(user.getEmail());
+        userEventOutbox.record(UserEvent.UserEventType.USER_REGISTERED, user, "User registered");
+        return user;
     }
 
     public String authenticate(AuthenticationRequest request) {
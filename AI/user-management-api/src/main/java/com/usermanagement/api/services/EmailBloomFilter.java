@@ -0,0 +1,130 @@
+package com.usermanagement.api.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter over lower-cased user emails.
+ *
+ * {@link #mightContain(String)} returning false means the email is definitely
+ * not registered, so the database existence probe can be skipped. A true result
+ * may be a false positive and must be confirmed against the database. Until the
+ * filter has been loaded every lookup answers true. Deleted emails cannot be
+ * removed; they only cost an extra probe. The filter only learns emails stored
+ * through this node, so it may miss emails registered elsewhere: use it where a
+ * miss can safely fall through to the unique constraint on users.email, which
+ * stays the final arbiter.
+ */
+@Component
+@Slf4j
+public class EmailBloomFilter {
+
+    private static final long MAX_WORDS = Integer.MAX_VALUE - 8;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private volatile boolean ready;
+
+    public EmailBloomFilter(@Value("${users.email-bloom.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${users.email-bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(MAX_WORDS, Math.max(1, (size + 63) / 64));
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Add every email of the stream and start answering lookups
+     * @param emails All registered emails
+     * @return Number of emails loaded
+     */
+    public long load(Stream<String> emails) {
+        long[] count = {0};
+        emails.forEach(email -> {
+            put(email);
+            count[0]++;
+        });
+        ready = true;
+        log.info("Email Bloom filter loaded with {} emails ({} bits, {} hash functions)",
+                count[0], bitSize, hashFunctions);
+        return count[0];
+    }
+
+    /**
+     * Record a newly stored email
+     * @param email Email to add
+     */
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash = hash(email);
+        long step = Long.rotateLeft(hash, 32) | 1L;
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = index(hash + i * step);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * @param email Email to look up
+     * @return false if the email is definitely not registered
+     */
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        long hash = hash(email);
+        long step = Long.rotateLeft(hash, 32) | 1L;
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = index(hash + i * step);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Bit for a 64-bit combined hash, so filters past 2^31 bits are fully addressed
+     */
+    private long index(long combined) {
+        return (combined & Long.MAX_VALUE) % bitSize;
+    }
+
+    /**
+     * 64-bit FNV-1a over the lower-cased characters followed by a murmur3 finalizer,
+     * computed without allocating a lower-cased copy of the email
+     */
+    private static long hash(String email) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < email.length(); i++) {
+            hash ^= Character.toLowerCase(email.charAt(i));
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
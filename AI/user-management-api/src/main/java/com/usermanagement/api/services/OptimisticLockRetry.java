@@ -0,0 +1,61 @@
+package com.usermanagement.api.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Retry policy for optimistic locking conflicts.
+ *
+ * The action must start its own transaction (e.g. a call into a @Transactional
+ * service method), so every attempt re-reads the current row and version.
+ * Backoff is exponential with jitter to spread out competing writers.
+ */
+@Component
+@Slf4j
+public class OptimisticLockRetry {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticLockRetry(@Value("${users.optimistic-lock.max-attempts:3}") int maxAttempts,
+                               @Value("${users.optimistic-lock.backoff-millis:20}") long backoffMillis) {
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict on attempt {}/{}, retrying", attempt, maxAttempts);
+                sleep(attempt);
+            }
+        }
+    }
+
+    public void execute(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void sleep(int attempt) {
+        long delay = backoffMillis << (attempt - 1);
+        try {
+            Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying optimistic lock conflict", e);
+        }
+    }
+}
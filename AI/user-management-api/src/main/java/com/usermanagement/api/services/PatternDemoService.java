@@ -1,8 +1,11 @@
 package com.usermanagement.api.services;
 
 import com.usermanagement.api.models.User;
+import com.usermanagement.api.patterns.factory.ConnectionPoolStats;
 import com.usermanagement.api.patterns.factory.DatabaseConnection;
 import com.usermanagement.api.patterns.factory.DatabaseConnectionFactory;
+import com.usermanagement.api.patterns.observer.ListenerDispatchStats;
+import com.usermanagement.api.patterns.observer.ListenerGuardStats;
 import com.usermanagement.api.patterns.observer.UserEvent;
 import com.usermanagement.api.patterns.observer.UserEventManager;
 import com.usermanagement.api.patterns.strategy.AuthenticationStrategy;
@@ -45,7 +48,7 @@ public class PatternDemoService {
         }
         
         User user = strategy.authenticate(credentials);
-        if (user != null) {
+        if (user != null && userEventManager.hasSubscribers(UserEvent.UserEventType.USER_LOGGED_IN)) {
             // Demonstrate Observer Pattern: Notify listeners of login event
             UserEvent loginEvent = new UserEvent(UserEvent.UserEventType.USER_LOGGED_IN, user, "User logged in successfully");
             userEventManager.notifyListeners(loginEvent);
@@ -111,4 +114,25 @@ public class PatternDemoService {
     public int getEventListenerCount() {
         return userEventManager.getListenerCount();
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Get active, idle and waiting counts of the factory connection pools
+     */
+    public List<ConnectionPoolStats> getConnectionPoolStats() {
+        return databaseConnectionFactory.getPoolStats();
+    }
+    
+    /**
+     * Get queue depth and lag of the asynchronous event listeners
+     */
+    public List<ListenerDispatchStats> getEventDispatchStats() {
+        return userEventManager.getDispatchStats();
+    }
+    
+    /**
+     * Get circuit state and latency percentiles of every event listener
+     */
+    public List<ListenerGuardStats> getListenerGuardStats() {
+        return userEventManager.getGuardStats();
+    }
+}
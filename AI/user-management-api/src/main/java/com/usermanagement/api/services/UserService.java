@@ -1,28 +1,39 @@
 package com.usermanagement.api.services;
 
+import com.usermanagement.api.dto.UserPatchRequest;
+import com.usermanagement.api.dto.UserResponse;
 import com.usermanagement.api.exceptions.EmailAlreadyExistsException;
 import com.usermanagement.api.exceptions.UserNotFoundException;
+import com.usermanagement.api.exceptions.VersionConflictException;
+import com.usermanagement.api.features.outbox.UserEventOutbox;
 import com.usermanagement.api.models.User;
+import com.usermanagement.api.patterns.observer.UserEvent;
 import com.usermanagement.api.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EmailBloomFilter emailBloomFilter;
+    private final UserEventOutbox userEventOutbox;
 
     @Transactional
     public User registerUser(User user) {
-        if (userRepository.existsByEmail(user.getEmail())) {
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        if (userRepository.insertIfAbsent(user).isEmpty()) {
             throw new EmailAlreadyExistsException("Email already exists: " + user.getEmail());
         }
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        emailBloomFilter.put(user.getEmail());
+        userEventOutbox.record(UserEvent.UserEventType.USER_REGISTERED, user, "User registered");
+        return user;
     }
 
     @Transactional(readOnly = true)
@@ -31,24 +42,115 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
     }
 
+    @Transactional(readOnly = true)
+    public UserResponse findResponseByEmail(String email) {
+        return userRepository.findResponseByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
+    }
+
     @Transactional
     public User updateUser(Long id, User userDetails) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+        return updateUser(id, userDetails, null);
+    }
+
+    /**
+     * Replace a user's names, optionally requiring the stored version to match.
+     * The password is left alone: a full update resends it every time, and telling
+     * an unchanged one apart would cost a hash comparison, so passwords are changed
+     * through {@link #patchUser} only.
+     * @param expectedVersion Version the caller last read, or null to skip the check
+     */
+    @Transactional
+    public User updateUser(Long id, User userDetails, Long expectedVersion) {
+        User user = findForWrite(id, expectedVersion);
 
         user.setFirstName(userDetails.getFirstName());
         user.setLastName(userDetails.getLastName());
-        if (userDetails.getPassword() != null && !userDetails.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(userDetails.getPassword()));
+
+        User savedUser = userRepository.save(user);
+        recordUpdate(savedUser, false);
+        return savedUser;
+    }
+
+    /**
+     * Apply only the fields present in the patch that differ from the stored values.
+     * Unchanged fields stay clean, so the dynamic UPDATE writes only the modified
+     * columns and is skipped entirely when nothing changed.
+     */
+    @Transactional
+    public User patchUser(Long id, UserPatchRequest patch) {
+        return patchUser(id, patch, null);
+    }
+
+    @Transactional
+    public User patchUser(Long id, UserPatchRequest patch, Long expectedVersion) {
+        User user = findForWrite(id, expectedVersion);
+
+        if (patch.getEmail() != null && !patch.getEmail().equalsIgnoreCase(user.getEmail())) {
+            // Email changes are rare, so they always probe: the node-local Bloom filter can miss emails set elsewhere
+            if (userRepository.existsByEmail(patch.getEmail())) {
+                throw new EmailAlreadyExistsException("Email already exists: " + patch.getEmail());
+            }
+            user.setEmail(patch.getEmail());
+            emailBloomFilter.put(patch.getEmail());
+        }
+        if (patch.getFirstName() != null && !Objects.equals(patch.getFirstName(), user.getFirstName())) {
+            user.setFirstName(patch.getFirstName());
         }
+        if (patch.getLastName() != null && !Objects.equals(patch.getLastName(), user.getLastName())) {
+            user.setLastName(patch.getLastName());
+        }
+        boolean passwordChanged = applyPassword(user, patch.getPassword());
+
+        User savedUser = userRepository.save(user);
+        recordUpdate(savedUser, passwordChanged);
+        return savedUser;
+    }
+
+    /**
+     * Hash and store the password if one was sent. Comparing with the stored hash
+     * first would cost a full hash computation itself, so a sent password is
+     * always encoded, exactly once.
+     * @return true if a password was stored
+     */
+    private boolean applyPassword(User user, String rawPassword) {
+        if (rawPassword == null || rawPassword.isEmpty()) {
+            return false;
+        }
+        user.setPassword(passwordEncoder.encode(rawPassword));
+        return true;
+    }
 
-        return userRepository.save(user);
+    private void recordUpdate(User user, boolean passwordChanged) {
+        userEventOutbox.record(UserEvent.UserEventType.USER_UPDATED, user, "User updated");
+        if (passwordChanged) {
+            userEventOutbox.record(UserEvent.UserEventType.PASSWORD_CHANGED, user, "Password changed");
+        }
     }
 
     @Transactional
     public void deleteUser(Long id) {
+        deleteUser(id, null);
+    }
+
+    @Transactional
+    public void deleteUser(Long id, Long expectedVersion) {
+        User user = findForWrite(id, expectedVersion);
+        userRepository.delete(user);
+        userEventOutbox.record(UserEvent.UserEventType.USER_DELETED, user, "User deleted");
+    }
+
+    /**
+     * Load a user for modification. A stale expected version fails fast here;
+     * a concurrent commit after the read is caught by the @Version check on flush.
+     */
+    private User findForWrite(Long id, Long expectedVersion) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
-        userRepository.delete(user);
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            throw new VersionConflictException("User " + id + " has been modified (expected version "
+                    + expectedVersion + ", current version " + user.getVersion() + ")");
+        }
+        return user;
     }
 } 
\ No newline at end of file
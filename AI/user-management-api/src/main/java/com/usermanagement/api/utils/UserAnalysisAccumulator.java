@@ -0,0 +1,360 @@
+package com.usermanagement.api.utils;
+
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Computes every {@link UserAnalysisResult} field in one traversal of the users.
+ *
+ * Roles are counted per ordinal, creation months in a primitive array indexed
+ * by month, and email domains in a table that hashes the domain part of the
+ * email in place, so each distinct domain string is allocated once rather than
+ * once per user. Users are first tested against an optional filter predicate;
+ * result formatting follows the stream pipeline of {@link UserDataProcessor}
+ * exactly, including the order of ties in the top domains.
+ */
+final class UserAnalysisAccumulator {
+
+    static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private static final Role[] ROLES = Role.values();
+    private static final Set<String> LOCALE_SENSITIVE_LOWERCASE = Set.of("tr", "az", "lt");
+
+    private final Predicate<User> filter;
+    private final LocalDateTime recentCutoff;
+    private final DomainTable domains;
+    private final MonthBuckets months = new MonthBuckets();
+    private final long[] roleCounts = new long[ROLES.length];
+
+    private int total;
+    private int active;
+    private int recent;
+    private long nameLengthSum;
+    private long withoutNames;
+    private long shortNames;
+
+    /**
+     * @param filter Users to count, or null for all of them
+     */
+    UserAnalysisAccumulator(Predicate<User> filter, LocalDateTime recentCutoff) {
+        this.filter = filter;
+        this.recentCutoff = recentCutoff;
+        this.domains = new DomainTable(!LOCALE_SENSITIVE_LOWERCASE.contains(Locale.getDefault().getLanguage()));
+    }
+
+    void accept(User user) {
+        if (filter != null && !filter.test(user)) {
+            return;
+        }
+        DomainTable.Entry domain = domains.lookup(user.getEmail());
+
+        Role role = user.getRole();
+        if (role == null) {
+            throw new NullPointerException("element cannot be mapped to a null key");
+        }
+        total++;
+        roleCounts[role.ordinal()]++;
+        if (user.isEnabled()) {
+            active++;
+        }
+        if (domain != null) {
+            domains.count(domain);
+        }
+
+        LocalDateTime createdAt = user.getCreatedAt();
+        if (createdAt != null) {
+            months.add(createdAt.getYear() * 12 + createdAt.getMonthValue() - 1);
+            if (createdAt.isAfter(recentCutoff)) {
+                recent++;
+            }
+        }
+
+        String firstName = user.getFirstName();
+        String lastName = user.getLastName();
+        int nameLength = (firstName != null ? firstName.length() : 0) + (lastName != null ? lastName.length() : 0);
+        nameLengthSum += nameLength;
+        if (nameLength < 4) {
+            shortNames++;
+        }
+        if (isBlank(firstName) || isBlank(lastName)) {
+            withoutNames++;
+        }
+    }
+
+    /**
+     * Fold in an accumulator built over the users that follow this one's.
+     * Merging chunks left to right gives the same result as one sequential pass.
+     */
+    void merge(UserAnalysisAccumulator other) {
+        total += other.total;
+        active += other.active;
+        recent += other.recent;
+        nameLengthSum += other.nameLengthSum;
+        withoutNames += other.withoutNames;
+        shortNames += other.shortNames;
+        for (int i = 0; i < roleCounts.length; i++) {
+            roleCounts[i] += other.roleCounts[i];
+        }
+        domains.merge(other.domains);
+        months.merge(other.months);
+    }
+
+    UserAnalysisResult toResult() {
+        Map<Role, Double> roleDistribution = new EnumMap<>(Role.class);
+        for (Role role : ROLES) {
+            if (roleCounts[role.ordinal()] > 0) {
+                roleDistribution.put(role, (double) roleCounts[role.ordinal()] / total * 100);
+            }
+        }
+
+        return UserAnalysisResult.builder()
+                .totalUsers(total)
+                .activeUsers(active)
+                .inactiveUsers(total - active)
+                .roleDistribution(roleDistribution)
+                .topEmailDomains(domains.top(5))
+                .creationByMonth(months.toMap())
+                .recentUsers(recent)
+                .averageNameLength(total == 0 ? 0.0 : (double) nameLengthSum / total)
+                .potentialIssues(potentialIssues())
+                .processingTimestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private List<String> potentialIssues() {
+        List<String> issues = new ArrayList<>();
+        if (withoutNames > 0) {
+            issues.add(String.format("%d users have incomplete names", withoutNames));
+        }
+        if (shortNames > 0) {
+            issues.add(String.format("%d users have very short names", shortNames));
+        }
+        long inactive = total - active;
+        if (inactive > total * 0.1) {
+            issues.add(String.format("High number of inactive users: %d (%.1f%%)",
+                    inactive, (double) inactive / total * 100));
+        }
+        return issues;
+    }
+
+    /**
+     * Equivalent to {@code value == null || value.trim().isEmpty()} without the copy
+     */
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lower-cased email domains, each allocated once. Lookups hash the part after
+     * the first '@' in place; non-ASCII domains (or locales whose lower-casing of
+     * ASCII differs) take the allocating path so the result always equals
+     * {@code email.substring(at + 1).toLowerCase()}.
+     */
+    private static final class DomainTable {
+
+        private static final class Entry {
+            private final String domain;
+            private final int hash;
+            private long count;
+            private Entry next;
+
+            private Entry(String domain, int hash) {
+                this.domain = domain;
+                this.hash = hash;
+            }
+        }
+
+        private final boolean asciiFastPath;
+        private final List<Entry> countedInOrder = new ArrayList<>();
+        private Entry[] buckets = new Entry[64];
+        private int size;
+
+        private DomainTable(boolean asciiFastPath) {
+            this.asciiFastPath = asciiFastPath;
+        }
+
+        Entry lookup(String email) {
+            if (email == null) {
+                return null;
+            }
+            int at = email.indexOf('@');
+            if (at < 0) {
+                return null;
+            }
+            int start = at + 1;
+            int hash = 0;
+            for (int i = start; i < email.length(); i++) {
+                char c = email.charAt(i);
+                if (c >= 0x80 || !asciiFastPath) {
+                    return lookupLowered(email.substring(start).toLowerCase());
+                }
+                hash = 31 * hash + lowerAscii(c);
+            }
+
+            int length = email.length() - start;
+            for (Entry entry = buckets[hash & (buckets.length - 1)]; entry != null; entry = entry.next) {
+                if (entry.hash == hash && matchesLowered(entry.domain, email, start, length)) {
+                    return entry;
+                }
+            }
+            return insert(email.substring(start).toLowerCase(), hash);
+        }
+
+        private static boolean matchesLowered(String domain, String email, int start, int length) {
+            if (domain.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (domain.charAt(i) != lowerAscii(email.charAt(start + i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static char lowerAscii(char c) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+
+        private Entry lookupLowered(String domain) {
+            int hash = domain.hashCode();
+            for (Entry entry = buckets[hash & (buckets.length - 1)]; entry != null; entry = entry.next) {
+                if (entry.hash == hash && entry.domain.equals(domain)) {
+                    return entry;
+                }
+            }
+            return insert(domain, hash);
+        }
+
+        private Entry insert(String domain, int hash) {
+            if (size >= buckets.length * 3 / 4) {
+                resize();
+            }
+            Entry entry = new Entry(domain, hash);
+            int index = hash & (buckets.length - 1);
+            entry.next = buckets[index];
+            buckets[index] = entry;
+            size++;
+            return entry;
+        }
+
+        private void resize() {
+            Entry[] old = buckets;
+            buckets = new Entry[old.length * 2];
+            for (Entry head : old) {
+                for (Entry entry = head; entry != null; ) {
+                    Entry next = entry.next;
+                    int index = entry.hash & (buckets.length - 1);
+                    entry.next = buckets[index];
+                    buckets[index] = entry;
+                    entry = next;
+                }
+            }
+        }
+
+        void count(Entry entry) {
+            if (entry.count++ == 0) {
+                countedInOrder.add(entry);
+            }
+        }
+
+        void merge(DomainTable other) {
+            for (Entry theirs : other.countedInOrder) {
+                Entry mine = lookupLowered(theirs.domain);
+                if (mine.count == 0) {
+                    countedInOrder.add(mine);
+                }
+                mine.count += theirs.count;
+            }
+        }
+
+        /**
+         * Rebuilds the per-domain counts the way groupingBy does (computeIfAbsent in
+         * first-seen order), so domains with equal counts keep the stream pipeline's
+         * relative order
+         */
+        List<String> top(int limit) {
+            Map<String, Long> counts = new HashMap<>();
+            for (Entry entry : countedInOrder) {
+                counts.computeIfAbsent(entry.domain, domain -> entry.count);
+            }
+            return counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Counts per month, indexed by {@code year * 12 + month - 1} relative to the
+     * earliest month seen; the array grows to cover the observed range
+     */
+    private static final class MonthBuckets {
+
+        private long[] counts = new long[0];
+        private int first;
+
+        void add(int month) {
+            add(month, 1);
+        }
+
+        void merge(MonthBuckets other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] > 0) {
+                    add(other.first + i, other.counts[i]);
+                }
+            }
+        }
+
+        private void add(int month, long count) {
+            if (counts.length == 0) {
+                counts = new long[24];
+                first = month;
+            } else if (month < first) {
+                int shift = Math.max(first - month, counts.length);
+                long[] grown = new long[counts.length + shift];
+                System.arraycopy(counts, 0, grown, shift, counts.length);
+                counts = grown;
+                first -= shift;
+            } else if (month - first >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(month - first + 1, counts.length * 2));
+            }
+            counts[month - first] += count;
+        }
+
+        Map<String, Long> toMap() {
+            Map<String, Long> byMonth = new HashMap<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    int month = first + i;
+                    byMonth.put(YearMonth.of(Math.floorDiv(month, 12), Math.floorMod(month, 12) + 1)
+                            .format(MONTH_FORMATTER), counts[i]);
+                }
+            }
+            return byMonth;
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.usermanagement.api.utils;
 
+import com.usermanagement.api.dto.UserFilter;
 import com.usermanagement.api.models.User;
 import com.usermanagement.api.models.enums.Role;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -22,6 +28,15 @@ import java.util.stream.Collectors;
  * - Sorting and filtering
  * - String manipulation
  * - Date/time processing
+ *
+ * Interchangeable engines produce the same result: the original stream
+ * pipeline (STREAMS), which traverses the users once per statistic, a
+ * single-pass accumulator (SINGLE_PASS, see {@link UserAnalysisAccumulator}),
+ * and PARALLEL, which splits large inputs into chunks on a dedicated
+ * {@link ForkJoinPool} and merges the per-chunk accumulators in input order.
+ * Every engine takes its filter as a {@link Predicate}: typed {@link UserFilter}s
+ * are compiled once by {@link UserFilterPredicates}, and the legacy map filters
+ * are translated once per call instead of being looked up per user.
  */
 @Component
 @Slf4j
@@ -30,6 +45,29 @@ public class UserDataProcessor {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static final int MIN_AGE = 18;
     private static final int MAX_AGE = 100;
+
+    public enum ProcessingMode {
+        STREAMS,
+        SINGLE_PASS,
+        PARALLEL
+    }
+
+    private final ProcessingMode mode;
+    private final int chunkSize;
+    private final ForkJoinPool forkJoinPool;
+
+    public UserDataProcessor(@Value("${users.analytics.processing-mode:SINGLE_PASS}") ProcessingMode mode,
+                             @Value("${users.analytics.parallel.parallelism:0}") int parallelism,
+                             @Value("${users.analytics.parallel.chunk-size:65536}") int chunkSize) {
+        this.mode = mode;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.forkJoinPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdown();
+    }
     
     /**
      * Process and analyze user data with various operations
@@ -40,6 +78,26 @@ public class UserDataProcessor {
      * @return Processed user statistics and analysis
      */
     public UserAnalysisResult processUserData(List<User> users, Map<String, Object> filters) {
+        return processUserData(users, filters, mode);
+    }
+
+    /**
+     * Process user data with an explicit engine
+     * @param mode Engine to use; both produce the same result
+     */
+    public UserAnalysisResult processUserData(List<User> users, Map<String, Object> filters, ProcessingMode mode) {
+        return process(users, toPredicate(filters), mode);
+    }
+
+    /**
+     * Process user data with a typed filter, compiled once into a predicate
+     * @param filter Criteria users must match; empty criteria match everyone
+     */
+    public UserAnalysisResult processUserData(List<User> users, UserFilter filter) {
+        return process(users, toPredicate(filter), mode);
+    }
+
+    private UserAnalysisResult process(List<User> users, Predicate<User> filter, ProcessingMode mode) {
         try {
             log.info("Starting user data processing for {} users", users.size());
             
@@ -48,80 +106,12 @@ public class UserDataProcessor {
                 log.warn("No users provided for processing");
                 return UserAnalysisResult.empty();
             }
-            
-            // Apply filters if provided
-            List<User> filteredUsers = applyFilters(users, filters);
-            log.info("Applied filters, {} users remaining", filteredUsers.size());
-            
-            // Calculate basic statistics
-            int totalUsers = filteredUsers.size();
-            long activeUsers = filteredUsers.stream()
-                    .filter(User::isEnabled)
-                    .count();
-            
-            // Group users by role
-            Map<Role, List<User>> usersByRole = filteredUsers.stream()
-                    .collect(Collectors.groupingBy(User::getRole));
-            
-            // Calculate role distribution
-            Map<Role, Double> roleDistribution = usersByRole.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            entry -> (double) entry.getValue().size() / totalUsers * 100
-                    ));
-            
-            // Find most common email domains
-            Map<String, Long> emailDomains = filteredUsers.stream()
-                    .map(user -> extractEmailDomain(user.getEmail()))
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.groupingBy(
-                            domain -> domain,
-                            Collectors.counting()
-                    ));
-            
-            List<String> topDomains = emailDomains.entrySet().stream()
-                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                    .limit(5)
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toList());
-            
-            // Analyze user creation patterns
-            Map<String, Long> creationByMonth = filteredUsers.stream()
-                    .map(user -> formatCreationMonth(user.getCreatedAt()))
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.groupingBy(
-                            month -> month,
-                            Collectors.counting()
-                    ));
-            
-            // Find recent active users (created in last 30 days)
-            LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-            long recentUsers = filteredUsers.stream()
-                    .filter(user -> user.getCreatedAt() != null && user.getCreatedAt().isAfter(thirtyDaysAgo))
-                    .count();
-            
-            // Calculate average name length
-            double avgNameLength = filteredUsers.stream()
-                    .mapToDouble(user -> calculateNameLength(user))
-                    .average()
-                    .orElse(0.0);
-            
-            // Find users with potential issues
-            List<String> potentialIssues = identifyPotentialIssues(filteredUsers);
-            
-            // Create analysis result
-            UserAnalysisResult result = UserAnalysisResult.builder()
-                    .totalUsers(totalUsers)
-                    .activeUsers((int) activeUsers)
-                    .inactiveUsers((int) (totalUsers - activeUsers))
-                    .roleDistribution(roleDistribution)
-                    .topEmailDomains(topDomains)
-                    .creationByMonth(creationByMonth)
-                    .recentUsers((int) recentUsers)
-                    .averageNameLength(avgNameLength)
-                    .potentialIssues(potentialIssues)
-                    .processingTimestamp(LocalDateTime.now())
-                    .build();
+
+            UserAnalysisResult result = switch (mode) {
+                case STREAMS -> processWithStreams(users, filter);
+                case SINGLE_PASS -> processInSinglePass(users, filter);
+                case PARALLEL -> processInParallel(users, filter);
+            };
             
             log.info("User data processing completed successfully");
             return result;
@@ -131,45 +121,235 @@ public class UserDataProcessor {
             throw new UserDataProcessingException("Failed to process user data", e);
         }
     }
+
+    /**
+     * Streaming variant: consumes and closes the stream in a single pass, so only
+     * the accumulator is held in memory, never the user population. Results match
+     * {@link #processUserData(List, Map)} over the same users.
+     *
+     * @param users Users to process, e.g. a cursor-backed repository stream
+     * @param filters Optional filters to apply
+     * @return Processed user statistics and analysis
+     */
+    public UserAnalysisResult processUserStream(Stream<User> users, Map<String, Object> filters) {
+        return processStream(users, toPredicate(filters));
+    }
+
+    /**
+     * Streaming variant with a typed filter; pass an empty filter when the
+     * stream was already narrowed down by the database
+     */
+    public UserAnalysisResult processUserStream(Stream<User> users, UserFilter filter) {
+        return processStream(users, toPredicate(filter));
+    }
+
+    private UserAnalysisResult processStream(Stream<User> users, Predicate<User> filter) {
+        try (users) {
+            log.info("Starting streaming user data processing");
+
+            Iterator<User> iterator = users.iterator();
+            if (!iterator.hasNext()) {
+                log.warn("No users provided for processing");
+                return UserAnalysisResult.empty();
+            }
+
+            UserAnalysisAccumulator accumulator =
+                    new UserAnalysisAccumulator(filter, LocalDateTime.now().minusDays(30));
+            long processed = 0;
+            while (iterator.hasNext()) {
+                accumulator.accept(iterator.next());
+                processed++;
+            }
+
+            log.info("Streaming user data processing completed successfully for {} users", processed);
+            return accumulator.toResult();
+
+        } catch (Exception e) {
+            log.error("Error processing user data", e);
+            throw new UserDataProcessingException("Failed to process user data", e);
+        }
+    }
+
+    private UserAnalysisResult processInSinglePass(List<User> users, Predicate<User> filter) {
+        UserAnalysisAccumulator accumulator = new UserAnalysisAccumulator(filter, LocalDateTime.now().minusDays(30));
+        for (User user : users) {
+            accumulator.accept(user);
+        }
+        return accumulator.toResult();
+    }
+
+    private UserAnalysisResult processInParallel(List<User> users, Predicate<User> filter) {
+        if (users.size() <= chunkSize) {
+            return processInSinglePass(users, filter);
+        }
+        List<User> indexed = users instanceof RandomAccess ? users : new ArrayList<>(users);
+        LocalDateTime recentCutoff = LocalDateTime.now().minusDays(30);
+        return forkJoinPool.invoke(new ChunkTask(indexed, 0, indexed.size(), chunkSize, filter, recentCutoff))
+                .toResult();
+    }
+
+    /**
+     * Accumulates users[from, to), splitting in halves down to chunk-size; the left
+     * half absorbs the right so the merge order follows the input order
+     */
+    private static final class ChunkTask extends RecursiveTask<UserAnalysisAccumulator> {
+
+        private final List<User> users;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Predicate<User> filter;
+        private final LocalDateTime recentCutoff;
+
+        private ChunkTask(List<User> users, int from, int to, int chunkSize,
+                          Predicate<User> filter, LocalDateTime recentCutoff) {
+            this.users = users;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.filter = filter;
+            this.recentCutoff = recentCutoff;
+        }
+
+        @Override
+        protected UserAnalysisAccumulator compute() {
+            if (to - from <= chunkSize) {
+                UserAnalysisAccumulator accumulator = new UserAnalysisAccumulator(filter, recentCutoff);
+                for (int i = from; i < to; i++) {
+                    accumulator.accept(users.get(i));
+                }
+                return accumulator;
+            }
+            int middle = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(users, from, middle, chunkSize, filter, recentCutoff);
+            left.fork();
+            UserAnalysisAccumulator right =
+                    new ChunkTask(users, middle, to, chunkSize, filter, recentCutoff).compute();
+            UserAnalysisAccumulator merged = left.join();
+            merged.merge(right);
+            return merged;
+        }
+    }
+
+    private UserAnalysisResult processWithStreams(List<User> users, Predicate<User> filter) {
+        // Apply filters if provided
+        List<User> filteredUsers = filter == null ? users : users.stream()
+                .filter(filter)
+                .collect(Collectors.toList());
+        log.info("Applied filters, {} users remaining", filteredUsers.size());
+        
+        // Calculate basic statistics
+        int totalUsers = filteredUsers.size();
+        long activeUsers = filteredUsers.stream()
+                .filter(User::isEnabled)
+                .count();
+        
+        // Group users by role
+        Map<Role, List<User>> usersByRole = filteredUsers.stream()
+                .collect(Collectors.groupingBy(User::getRole));
+        
+        // Calculate role distribution
+        Map<Role, Double> roleDistribution = usersByRole.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> (double) entry.getValue().size() / totalUsers * 100
+                ));
+        
+        // Find most common email domains
+        Map<String, Long> emailDomains = filteredUsers.stream()
+                .map(user -> extractEmailDomain(user.getEmail()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(
+                        domain -> domain,
+                        Collectors.counting()
+                ));
+        
+        List<String> topDomains = emailDomains.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(5)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        
+        // Analyze user creation patterns
+        Map<String, Long> creationByMonth = filteredUsers.stream()
+                .map(user -> formatCreationMonth(user.getCreatedAt()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(
+                        month -> month,
+                        Collectors.counting()
+                ));
+        
+        // Find recent active users (created in last 30 days)
+        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
+        long recentUsers = filteredUsers.stream()
+                .filter(user -> user.getCreatedAt() != null && user.getCreatedAt().isAfter(thirtyDaysAgo))
+                .count();
+        
+        // Calculate average name length
+        double avgNameLength = filteredUsers.stream()
+                .mapToDouble(user -> calculateNameLength(user))
+                .average()
+                .orElse(0.0);
+        
+        // Find users with potential issues
+        List<String> potentialIssues = identifyPotentialIssues(filteredUsers);
+        
+        // Create analysis result
+        return UserAnalysisResult.builder()
+                .totalUsers(totalUsers)
+                .activeUsers((int) activeUsers)
+                .inactiveUsers((int) (totalUsers - activeUsers))
+                .roleDistribution(roleDistribution)
+                .topEmailDomains(topDomains)
+                .creationByMonth(creationByMonth)
+                .recentUsers((int) recentUsers)
+                .averageNameLength(avgNameLength)
+                .potentialIssues(potentialIssues)
+                .processingTimestamp(LocalDateTime.now())
+                .build();
+    }
     
     /**
-     * Apply filters to user list
+     * Translate legacy map filters into a predicate
+     * @return null when there is nothing to filter on
      */
-    private List<User> applyFilters(List<User> users, Map<String, Object> filters) {
+    private Predicate<User> toPredicate(Map<String, Object> filters) {
         if (filters == null || filters.isEmpty()) {
-            return users;
+            return null;
         }
         
-        return users.stream()
-                .filter(user -> {
-                    // Filter by role
-                    if (filters.containsKey("role")) {
-                        Role filterRole = (Role) filters.get("role");
-                        if (!user.getRole().equals(filterRole)) {
-                            return false;
-                        }
-                    }
-                    
-                    // Filter by active status
-                    if (filters.containsKey("active")) {
-                        boolean activeFilter = (Boolean) filters.get("active");
-                        if (user.isEnabled() != activeFilter) {
-                            return false;
-                        }
-                    }
-                    
-                    // Filter by email domain
-                    if (filters.containsKey("emailDomain")) {
-                        String domainFilter = (String) filters.get("emailDomain");
-                        String userDomain = extractEmailDomain(user.getEmail());
-                        if (!domainFilter.equalsIgnoreCase(userDomain)) {
-                            return false;
-                        }
-                    }
-                    
-                    return true;
-                })
-                .collect(Collectors.toList());
+        return user -> {
+            // Filter by role
+            if (filters.containsKey("role")) {
+                Role filterRole = (Role) filters.get("role");
+                if (!user.getRole().equals(filterRole)) {
+                    return false;
+                }
+            }
+            
+            // Filter by active status
+            if (filters.containsKey("active")) {
+                boolean activeFilter = (Boolean) filters.get("active");
+                if (user.isEnabled() != activeFilter) {
+                    return false;
+                }
+            }
+            
+            // Filter by email domain
+            if (filters.containsKey("emailDomain")) {
+                String domainFilter = (String) filters.get("emailDomain");
+                String userDomain = extractEmailDomain(user.getEmail());
+                if (!domainFilter.equalsIgnoreCase(userDomain)) {
+                    return false;
+                }
+            }
+            
+            return true;
+        };
+    }
+
+    private Predicate<User> toPredicate(UserFilter filter) {
+        return filter == null || filter.isEmpty() ? null : UserFilterPredicates.compile(filter);
     }
     
     /**
@@ -189,7 +369,7 @@ public class UserDataProcessor {
         if (createdAt == null) {
             return null;
         }
-        return createdAt.format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        return createdAt.format(UserAnalysisAccumulator.MONTH_FORMATTER);
     }
     
     /**
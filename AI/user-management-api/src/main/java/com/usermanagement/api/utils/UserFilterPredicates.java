@@ -0,0 +1,69 @@
+package com.usermanagement.api.utils;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Compiles a {@link UserFilter} into an in-memory predicate with the semantics of
+ * {@link com.usermanagement.api.repositories.UserSpecifications#matching(UserFilter)},
+ * for users that are already loaded. Only the criteria that are set become links
+ * of the chain, and the domain is compared in place against the email rather
+ * than extracted per user.
+ */
+public final class UserFilterPredicates {
+
+    private UserFilterPredicates() {
+    }
+
+    /**
+     * @param filter Filter to compile
+     * @return Predicate matching every criterion set on the filter
+     */
+    public static Predicate<User> compile(UserFilter filter) {
+        List<Predicate<User>> checks = new ArrayList<>();
+        if (filter.getRole() != null) {
+            Role role = filter.getRole();
+            checks.add(user -> user.getRole() == role);
+        }
+        if (filter.getEnabled() != null) {
+            boolean enabled = filter.getEnabled();
+            checks.add(user -> user.isEnabled() == enabled);
+        }
+        if (filter.getEmailDomain() != null) {
+            String domain = filter.getEmailDomain();
+            checks.add(user -> hasDomain(user.getEmail(), domain));
+        }
+        if (filter.getCreatedAfter() != null) {
+            LocalDateTime createdAfter = filter.getCreatedAfter();
+            checks.add(user -> user.getCreatedAt() != null && !user.getCreatedAt().isBefore(createdAfter));
+        }
+        if (filter.getCreatedBefore() != null) {
+            LocalDateTime createdBefore = filter.getCreatedBefore();
+            checks.add(user -> user.getCreatedAt() != null && user.getCreatedAt().isBefore(createdBefore));
+        }
+        if (filter.getUpdatedAfter() != null) {
+            LocalDateTime updatedAfter = filter.getUpdatedAfter();
+            checks.add(user -> user.getUpdatedAt() != null && !user.getUpdatedAt().isBefore(updatedAfter));
+        }
+        if (filter.getInactiveSince() != null) {
+            LocalDateTime inactiveSince = filter.getInactiveSince();
+            checks.add(user -> user.getUpdatedAt() != null && user.getUpdatedAt().isBefore(inactiveSince));
+        }
+        return checks.stream().reduce(Predicate::and).orElse(user -> true);
+    }
+
+    /**
+     * Same as comparing {@link User#emailDomainOf(String)} ignoring case, without the substring
+     */
+    private static boolean hasDomain(String email, String domain) {
+        int at = email == null ? -1 : email.indexOf('@');
+        return at >= 0 && email.length() - at - 1 == domain.length()
+                && email.regionMatches(true, at + 1, domain, 0, domain.length());
+    }
+}
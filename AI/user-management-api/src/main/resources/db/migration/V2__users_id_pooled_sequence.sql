@@ -0,0 +1,10 @@
+-- Move users.id off BIGSERIAL onto a sequence that hands out blocks of 50 ids,
+-- matching the allocationSize of the pooled optimizer on User.id.
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50);
+
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER SEQUENCE users_seq OWNED BY users.id;
+
+DROP SEQUENCE IF EXISTS users_id_seq;
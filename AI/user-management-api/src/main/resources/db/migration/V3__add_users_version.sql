@@ -0,0 +1,2 @@
+-- Optimistic locking counter for User (@Version)
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
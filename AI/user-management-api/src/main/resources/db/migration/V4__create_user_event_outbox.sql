@@ -0,0 +1,14 @@
+-- Transactional outbox for user events, written in the same transaction as the user change
+CREATE SEQUENCE user_event_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE user_event_outbox (
+    id BIGINT PRIMARY KEY DEFAULT nextval('user_event_outbox_seq'),
+    event_type VARCHAR(40) NOT NULL,
+    user_id BIGINT,
+    user_email VARCHAR(255),
+    description VARCHAR(500),
+    created_at TIMESTAMP NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0
+);
+
+ALTER SEQUENCE user_event_outbox_seq OWNED BY user_event_outbox.id;
@@ -0,0 +1,3 @@
+-- Lower-cased domain part of the email, written by the application and backfilled
+-- in batches by EmailDomainBackfill; nullable so adding it does not rewrite the table
+ALTER TABLE users ADD COLUMN email_domain VARCHAR(255);
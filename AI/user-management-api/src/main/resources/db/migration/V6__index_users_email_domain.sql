@@ -0,0 +1,2 @@
+-- Built without blocking writes; Flyway runs this script outside a transaction
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_domain ON users (email_domain);
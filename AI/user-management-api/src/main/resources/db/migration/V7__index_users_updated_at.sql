@@ -0,0 +1,2 @@
+-- Backs the snapshot reconcile scan; built without blocking writes, outside a transaction like V6
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_updated_at ON users (updated_at);
@@ -0,0 +1,2 @@
+-- Lease taken by a relay while it delivers a batch outside the claiming transaction
+ALTER TABLE user_event_outbox ADD COLUMN claimed_until TIMESTAMP;
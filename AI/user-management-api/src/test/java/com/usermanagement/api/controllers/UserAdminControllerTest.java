@@ -0,0 +1,115 @@
+package com.usermanagement.api.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.usermanagement.api.dto.UserRegistrationRequest;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+import com.usermanagement.api.repositories.UserRepository;
+import com.usermanagement.api.services.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class UserAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private String userToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserRegistrationRequest regRequest = new UserRegistrationRequest(
+                "plain-user@example.com",
+                "password123",
+                "John",
+                "Doe"
+        );
+        String response = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(regRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        userToken = objectMapper.readTree(response).get("token").asText();
+    }
+
+    @Test
+    void whenUserCallsAdminEndpoints_thenForbidden() throws Exception {
+        for (String path : new String[]{"/api/admin/users/bulk/enable", "/api/admin/users/bulk/disable",
+                "/api/admin/users/bulk/delete"}) {
+            mockMvc.perform(post(path)
+                            .header("Authorization", "Bearer " + userToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isForbidden());
+        }
+        mockMvc.perform(post("/api/admin/users/bulk/role")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("role", "ADMIN")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/admin/users/validate")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+        for (String path : new String[]{"/api/admin/metrics/pool", "/api/admin/metrics/errors",
+                "/api/analytics/analysis"}) {
+            mockMvc.perform(get(path).header("Authorization", "Bearer " + userToken))
+                    .andExpect(status().isForbidden());
+        }
+
+        // The analytics health check stays open to any authenticated user
+        mockMvc.perform(get("/api/analytics/health").header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("healthy"));
+
+        // The user was not touched by the rejected bulk calls
+        User user = userRepository.findByEmail("plain-user@example.com").orElseThrow();
+        assertThat(user.isEnabled()).isTrue();
+        assertThat(user.getRole()).isEqualTo(Role.USER);
+    }
+
+    @Test
+    void whenAdminCallsAdminEndpoints_thenAllowed() throws Exception {
+        User admin = userRepository.findByEmail("plain-user@example.com").orElseThrow();
+        admin.setRole(Role.ADMIN);
+        userRepository.saveAndFlush(admin);
+        String adminToken = jwtService.generateToken(admin);
+
+        mockMvc.perform(post("/api/admin/users/validate")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0));
+        mockMvc.perform(get("/api/admin/metrics/errors").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
+}
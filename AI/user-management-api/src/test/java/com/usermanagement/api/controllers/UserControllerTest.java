@@ -2,6 +2,7 @@ package com.usermanagement.api.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.usermanagement.api.dto.AuthenticationRequest;
+import com.usermanagement.api.dto.UserPatchRequest;
 import com.usermanagement.api.dto.UserRegistrationRequest;
 import com.usermanagement.api.models.User;
 import com.usermanagement.api.models.enums.Role;
@@ -15,6 +16,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -61,7 +63,8 @@ class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.email").value("test@example.com"))
                 .andExpect(jsonPath("$.firstName").value("John"))
-                .andExpect(jsonPath("$.lastName").value("Doe"));
+                .andExpect(jsonPath("$.lastName").value("Doe"))
+                .andExpect(jsonPath("$.password").doesNotExist());
     }
 
     @Test
@@ -100,6 +103,48 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.lastName").value("Smith"));
     }
 
+    @Test
+    void whenPatchUser_thenOnlyProvidedFieldsChange() throws Exception {
+        String response = mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + authToken)
+                        .param("email", "test@example.com"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        userId = objectMapper.readTree(response).get("id").asLong();
+
+        UserPatchRequest patchRequest = UserPatchRequest.builder().lastName("Smith").build();
+        mockMvc.perform(patch("/api/users/" + userId)
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("John"))
+                .andExpect(jsonPath("$.lastName").value("Smith"));
+    }
+
+    @Test
+    void whenUpdateUserWithStaleIfMatch_thenReturnPreconditionFailed() throws Exception {
+        String response = mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + authToken)
+                        .param("email", "test@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        userId = objectMapper.readTree(response).get("id").asLong();
+
+        UserPatchRequest patchRequest = UserPatchRequest.builder().lastName("Smith").build();
+        mockMvc.perform(patch("/api/users/" + userId)
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-Match", "\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchRequest)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     void whenUpdateUserWithInvalidData_thenReturnBadRequest() throws Exception {
         UserRegistrationRequest updateRequest = new UserRegistrationRequest(
@@ -1,9 +1,11 @@
 package com.usermanagement.api.exceptions;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import java.util.Map;
+
+import java.sql.SQLException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,26 +28,69 @@ class ExceptionTest {
     void testHandleUserNotFoundException() {
         GlobalExceptionHandler handler = new GlobalExceptionHandler();
         UserNotFoundException ex = new UserNotFoundException("User not found!");
-        ResponseEntity<Map<String, Object>> response = handler.handleUserNotFoundException(ex);
+        ResponseEntity<ErrorResponse> response = handler.handleUserNotFoundException(ex);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        assertTrue(response.getBody().get("message").toString().contains("User not found!"));
+        assertTrue(response.getBody().message().contains("User not found!"));
     }
 
     @Test
     void testHandleEmailAlreadyExistsException() {
         GlobalExceptionHandler handler = new GlobalExceptionHandler();
         EmailAlreadyExistsException ex = new EmailAlreadyExistsException("Email already exists!");
-        ResponseEntity<Map<String, Object>> response = handler.handleEmailAlreadyExistsException(ex);
+        ResponseEntity<ErrorResponse> response = handler.handleEmailAlreadyExistsException(ex);
         assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
-        assertTrue(response.getBody().get("message").toString().contains("Email already exists!"));
+        assertTrue(response.getBody().message().contains("Email already exists!"));
     }
 
     @Test
     void testHandleGenericException() {
         GlobalExceptionHandler handler = new GlobalExceptionHandler();
         Exception ex = new Exception("Generic error");
-        ResponseEntity<Map<String, Object>> response = handler.handleGenericException(ex);
+        ResponseEntity<ErrorResponse> response = handler.handleGenericException(ex);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        assertTrue(response.getBody().get("message").toString().contains("Generic error"));
+        assertTrue(response.getBody().message().contains("Generic error"));
+    }
+
+    @Test
+    void testHandleUniqueEmailViolationAsConflict() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("ERROR: duplicate key value violates unique constraint \"users_email_key\""));
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolationException(ex);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Email already exists", response.getBody().message());
+        assertEquals(1L, handler.getErrorCounts().get("EMAIL_ALREADY_EXISTS"));
+    }
+
+    @Test
+    void testHandleOtherIntegrityViolationAsInternalError() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("ERROR: null value in column \"first_name\" violates not-null constraint"));
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolationException(ex);
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    @Test
+    void testDomainExceptionsAreStackless() {
+        assertEquals(0, new UserNotFoundException("User not found!").getStackTrace().length);
+        assertEquals(0, new EmailAlreadyExistsException("Email already exists!").getStackTrace().length);
+        assertEquals(0, new VersionConflictException("Version mismatch").getStackTrace().length);
+    }
+
+    @Test
+    void testErrorResponsesAreCountedPerType() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        handler.handleUserNotFoundException(new UserNotFoundException("User not found!"));
+        handler.handleUserNotFoundException(new UserNotFoundException("User not found!"));
+        ResponseEntity<ErrorResponse> response =
+                handler.handleEmailAlreadyExistsException(new EmailAlreadyExistsException("Email already exists!"));
+
+        assertEquals(409, response.getBody().status());
+        assertEquals("Conflict", response.getBody().error());
+        assertNull(response.getBody().errors());
+        assertEquals(2L, handler.getErrorCounts().get("USER_NOT_FOUND"));
+        assertEquals(1L, handler.getErrorCounts().get("EMAIL_ALREADY_EXISTS"));
+        assertEquals(0L, handler.getErrorCounts().get("INTERNAL_ERROR"));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package com.usermanagement.api.features.admin;
+
+import com.usermanagement.api.dto.UserRegistrationRequest;
+import com.usermanagement.api.features.admin.dto.BatchValidationReport;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.modern.UserValidationService;
+import com.usermanagement.api.modern.ValidationError;
+import com.usermanagement.api.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({BatchUserValidationService.class, UserValidationService.class})
+@TestPropertySource(properties = {
+        "users.validation.batch.max-size=100",
+        "users.validation.batch.chunk-size=4",
+        "users.validation.batch.lookup-chunk-size=2"
+})
+class BatchUserValidationServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BatchUserValidationService service;
+
+    @SpyBean
+    private UserRepository userRepository;
+
+    @Test
+    void whenBatchIsValidated_thenEveryRecordGetsItsErrorBitmap() {
+        entityManager.persist(User.builder().email("taken@example.com").password("encoded")
+                .firstName("John").lastName("Doe").build());
+        entityManager.flush();
+
+        List<UserRegistrationRequest> records = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            records.add(record("user" + i + "@example.com", "John", "Doe"));
+        }
+        records.set(1, record("not-an-email", "John", "Doe"));
+        records.set(3, record("twice@example.com", "J", "Doe"));
+        records.set(7, record("twice@example.com", "Jane", "Doe"));
+        records.set(9, record("taken@example.com", "John", ""));
+
+        BatchValidationReport report = service.validate(records);
+
+        int[] errors = report.getErrors();
+        assertThat(errors).hasSize(12);
+        assertThat(errors[0]).isZero();
+        assertThat(errors[1]).isEqualTo(ValidationError.EMAIL_INVALID.mask());
+        assertThat(errors[3]).isEqualTo(ValidationError.EMAIL_DUPLICATE_IN_BATCH.mask()
+                | ValidationError.FIRST_NAME_TOO_SHORT.mask());
+        assertThat(errors[7]).isEqualTo(ValidationError.EMAIL_DUPLICATE_IN_BATCH.mask());
+        assertThat(errors[9]).isEqualTo(ValidationError.EMAIL_TAKEN.mask()
+                | ValidationError.LAST_NAME_REQUIRED.mask());
+        assertThat(ValidationError.fromMask(errors[9]))
+                .containsExactly(ValidationError.LAST_NAME_REQUIRED, ValidationError.EMAIL_TAKEN);
+
+        assertThat(report.getTotal()).isEqualTo(12);
+        assertThat(report.getInvalid()).isEqualTo(4);
+        assertThat(report.getValid()).isEqualTo(8);
+        assertThat(report.getErrorCodes().get(Integer.numberOfTrailingZeros(ValidationError.EMAIL_TAKEN.mask())))
+                .isEqualTo("EMAIL_TAKEN");
+        assertThat(report.getErrorCounts())
+                .containsEntry("EMAIL_DUPLICATE_IN_BATCH", 2)
+                .containsEntry("EMAIL_TAKEN", 1)
+                .doesNotContainKey("PASSWORD_TOO_SHORT");
+
+        // 10 distinct well-formed emails, looked up 2 at a time
+        verify(userRepository, times(5)).findExistingEmails(anyCollection());
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    void whenBatchExceedsMaxSize_thenItIsRejected() {
+        List<UserRegistrationRequest> records = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            records.add(record("user" + i + "@example.com", "John", "Doe"));
+        }
+
+        assertThatThrownBy(() -> service.validate(records))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("100");
+    }
+
+    private static UserRegistrationRequest record(String email, String firstName, String lastName) {
+        return new UserRegistrationRequest(email, "password123", firstName, lastName);
+    }
+}
@@ -0,0 +1,119 @@
+package com.usermanagement.api.features.admin;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.features.admin.dto.BulkOperationResult;
+import com.usermanagement.api.features.outbox.OutboxRelay;
+import com.usermanagement.api.features.outbox.UserEventOutbox;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+import com.usermanagement.api.patterns.observer.UserEvent;
+import com.usermanagement.api.patterns.observer.ListenerGuardSettings;
+import com.usermanagement.api.patterns.observer.UserEventListener;
+import com.usermanagement.api.patterns.observer.UserEventManager;
+import com.usermanagement.api.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({BulkUserAdminService.class, UserEventManager.class, ListenerGuardSettings.class,
+        UserEventOutbox.class, OutboxRelay.class})
+@TestPropertySource(properties = {"users.bulk.chunk-size=2", "users.outbox.relay.enabled=false"})
+class BulkUserAdminServiceTest {
+
+    @Autowired
+    private BulkUserAdminService bulkUserAdminService;
+
+    @Autowired
+    private UserEventManager userEventManager;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<UserEvent> receivedEvents = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        userEventManager.addListener(new UserEventListener() {
+            @Override
+            public void onUserEvent(UserEvent event) {
+                receivedEvents.add(event);
+            }
+
+            @Override
+            public String getListenerName() {
+                return "TestListener";
+            }
+        });
+
+        for (int i = 0; i < 5; i++) {
+            userRepository.save(createUser("user" + i + "@dormant.com", Role.USER));
+        }
+        userRepository.save(createUser("admin@example.com", Role.ADMIN));
+    }
+
+    @Test
+    void whenDisableByDomain_thenOnlyMatchingUsersAreDisabledInChunks() {
+        BulkOperationResult result = bulkUserAdminService.disable(
+                UserFilter.builder().emailDomain("dormant.com").build());
+
+        assertThat(result.getAffectedUsers()).isEqualTo(5);
+        assertThat(result.getChunks()).isEqualTo(3);
+        assertThat(userRepository.findAll())
+                .filteredOn(User::isEnabled)
+                .extracting(User::getEmail)
+                .containsExactly("admin@example.com");
+        assertThat(receivedEvents).isEmpty();
+
+        assertThat(outboxRelay.relayPending()).isEqualTo(5);
+        assertThat(receivedEvents).hasSize(5)
+                .allMatch(event -> event.getType() == UserEvent.UserEventType.ACCOUNT_LOCKED);
+    }
+
+    @Test
+    void whenChangeRoleByRole_thenRoleIsUpdated() {
+        BulkOperationResult result = bulkUserAdminService.changeRole(
+                UserFilter.builder().role(Role.ADMIN).build(), Role.USER);
+
+        assertThat(result.getAffectedUsers()).isEqualTo(1);
+        assertThat(userRepository.findAll()).allMatch(user -> user.getRole() == Role.USER);
+    }
+
+    @Test
+    void whenDeleteByDomain_thenUsersAreRemoved() {
+        BulkOperationResult result = bulkUserAdminService.delete(
+                UserFilter.builder().emailDomain("DORMANT.com").build());
+
+        assertThat(result.getAffectedUsers()).isEqualTo(5);
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void whenFilterIsEmpty_thenThrowException() {
+        assertThatThrownBy(() -> bulkUserAdminService.delete(new UserFilter()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(userRepository.count()).isEqualTo(6);
+    }
+
+    private User createUser(String email, Role role) {
+        return User.builder()
+                .email(email)
+                .password("password123")
+                .firstName("John")
+                .lastName("Doe")
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.usermanagement.api.features.admin;
+
+import com.usermanagement.api.models.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(EmailDomainBackfill.class)
+@TestPropertySource(properties = "users.email-domain.backfill.batch-size=2")
+class EmailDomainBackfillTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EmailDomainBackfill backfill;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void whenRowsPredateTheColumn_thenBackfillFillsThemInBatches() {
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(User.builder().email("user" + i + "@Example.COM").password("encoded")
+                    .firstName("John").lastName("Doe").build());
+        }
+        entityManager.flush();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("UPDATE users SET email_domain = NULL");
+
+        assertThat(backfill.backfill()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT email_domain FROM users", String.class))
+                .containsExactly("example.com");
+        assertThat(backfill.backfill()).isZero();
+    }
+
+    @Test
+    void whenRowsWithoutDomainArriveLater_thenLaterPollsFillThem() {
+        entityManager.persist(User.builder().email("first@corp.io").password("encoded")
+                .firstName("John").lastName("Doe").build());
+        entityManager.flush();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        backfill.poll();
+
+        entityManager.persist(User.builder().email("late@Corp.IO").password("encoded")
+                .firstName("Jane").lastName("Doe").build());
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE users SET email_domain = NULL WHERE email = 'late@Corp.IO'");
+        backfill.poll();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email_domain IS NULL", Long.class))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT email_domain FROM users WHERE email = 'late@Corp.IO'",
+                String.class)).isEqualTo("corp.io");
+    }
+}
@@ -0,0 +1,92 @@
+package com.usermanagement.api.features.analytics;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+import com.usermanagement.api.utils.UserAnalysisResult;
+import com.usermanagement.api.utils.UserDataProcessor;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({UserAnalyticsService.class, UserDataProcessor.class})
+class UserAnalyticsServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserAnalyticsService analyticsService;
+
+    @Autowired
+    private UserDataProcessor userDataProcessor;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 120; i++) {
+            entityManager.persist(User.builder()
+                    .email("user" + i + (i % 3 == 0 ? "@corp.io" : "@example.com"))
+                    .password("encoded")
+                    .firstName("First")
+                    .lastName("Last")
+                    .role(i % 4 == 0 ? Role.ADMIN : Role.USER)
+                    .enabled(i % 5 != 0)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void whenAnalyzingAllUsers_thenEveryRowIsCountedAndNothingStaysManaged() {
+        UserAnalysisResult result = analyticsService.analyzeUsers(new UserFilter());
+
+        assertThat(result.getTotalUsers()).isEqualTo(120);
+        assertThat(result.getActiveUsers()).isEqualTo(96);
+        assertThat(result.getTopEmailDomains()).containsExactly("example.com", "corp.io");
+        assertThat(entityManager.getEntityManager().unwrap(Session.class)
+                .getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void whenAnalyzingWithFilters_thenOnlyMatchingUsersAreCounted() {
+        UserAnalysisResult result = analyticsService.analyzeUsers(UserFilter.builder().role(Role.ADMIN).build());
+
+        assertThat(result.getTotalUsers()).isEqualTo(30);
+        assertThat(result.getRoleDistribution()).containsEntry(Role.ADMIN, 100.0);
+    }
+
+    @Test
+    void whenFilterIsPushedDownToSql_thenResultMatchesInMemoryFiltering() {
+        List<User> allUsers = entityManager.getEntityManager()
+                .createQuery("SELECT u FROM User u", User.class).getResultList();
+
+        for (UserFilter filter : List.of(
+                UserFilter.builder().emailDomain("CORP.io").build(),
+                UserFilter.builder().enabled(false).role(Role.USER).build(),
+                UserFilter.builder().createdAfter(LocalDateTime.now().minusDays(1)).enabled(true).build())) {
+            assertThat(analyticsService.analyzeUsers(filter))
+                    .as(filter.toString())
+                    .usingRecursiveComparison()
+                    .ignoringFields("processingTimestamp")
+                    .isEqualTo(userDataProcessor.processUserData(allUsers, filter));
+        }
+    }
+
+    @Test
+    void whenDomainContainsLikeWildcard_thenItIsMatchedLiterally() {
+        UserAnalysisResult result = analyticsService.analyzeUsers(UserFilter.builder().emailDomain("corp_io").build());
+
+        assertThat(result.getTotalUsers()).isZero();
+    }
+}
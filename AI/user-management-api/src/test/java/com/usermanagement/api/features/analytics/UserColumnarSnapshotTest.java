@@ -0,0 +1,174 @@
+package com.usermanagement.api.features.analytics;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+import com.usermanagement.api.modern.ModernUserService;
+import com.usermanagement.api.modern.NotificationService;
+import com.usermanagement.api.modern.UserValidationService;
+import com.usermanagement.api.patterns.observer.UserEvent;
+import com.usermanagement.api.repositories.UserRepository;
+import com.usermanagement.api.services.EmailBloomFilter;
+import com.usermanagement.api.utils.UserDataProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Import({UserColumnarSnapshot.class, UserDataProcessor.class})
+class UserColumnarSnapshotTest {
+
+    private static final String[] DOMAINS = {"example.com", "Example.COM", "corp.io", "my_corp.io", "b.net"};
+    private static final String[] NAMES = {"Al", "Christina", " ", "Jo", "Maximilian"};
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserColumnarSnapshot snapshot;
+
+    @Autowired
+    private UserDataProcessor userDataProcessor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        for (int i = 0; i < 400; i++) {
+            User user = entityManager.persist(User.builder()
+                    .email("user" + i + "@" + DOMAINS[random.nextInt(DOMAINS.length)])
+                    .password("encoded")
+                    .firstName(NAMES[random.nextInt(NAMES.length)])
+                    .lastName(NAMES[random.nextInt(NAMES.length)])
+                    .role(random.nextInt(4) == 0 ? Role.ADMIN : Role.USER)
+                    .enabled(random.nextInt(5) != 0)
+                    .build());
+            entityManager.flush();
+            setTimestamps(user.getId(), now.minusDays(random.nextInt(400)).minusNanos(random.nextInt(1_000_000)),
+                    now.minusDays(random.nextInt(60)));
+        }
+        entityManager.clear();
+        // The context, and with it the snapshot, outlives each rolled-back test
+        snapshot.rebuild();
+    }
+
+    @Test
+    void whenAnalyzingSnapshot_thenResultMatchesProcessingTheEntities() {
+        for (UserFilter filter : filters()) {
+            assertSameAsEntities(filter);
+        }
+        assertThat(snapshot.getStats().getLiveRows()).isEqualTo(400);
+        assertThat(snapshot.getStats().getDistinctDomains()).isEqualTo(4);
+    }
+
+    @Test
+    void whenUsersChange_thenRefreshAppliesOnlyTheEventUsers() {
+        List<User> users = usersById();
+
+        User disabled = users.get(0);
+        disabled.setEnabled(false);
+        disabled.setEmail("moved@elsewhere.org");
+        entityManager.merge(disabled);
+        User deleted = users.get(1);
+        entityManager.remove(entityManager.find(User.class, deleted.getId()));
+        User added = entityManager.persist(User.builder()
+                .email("new@corp.io").password("encoded").firstName("New").lastName("User")
+                .role(Role.ADMIN).enabled(true).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        snapshot.onUserEvent(new UserEvent(UserEvent.UserEventType.USER_UPDATED, disabled, "updated"));
+        snapshot.onUserEvent(new UserEvent(UserEvent.UserEventType.USER_DELETED, deleted, "deleted"));
+        snapshot.onUserEvent(new UserEvent(UserEvent.UserEventType.USER_REGISTERED, added, "registered"));
+
+        assertThat(snapshot.getStats().getPendingRefreshes()).isEqualTo(3);
+        assertThat(snapshot.refresh()).isEqualTo(3);
+        assertThat(snapshot.getStats().getPendingRefreshes()).isZero();
+        assertThat(snapshot.getStats().getLiveRows()).isEqualTo(400);
+        for (UserFilter filter : filters()) {
+            assertSameAsEntities(filter);
+        }
+    }
+
+    @Test
+    void whenUsersChangeWithoutEvents_thenReconcileAppliesThem() {
+        ModernUserService userService = new ModernUserService(userRepository, new BCryptPasswordEncoder(4),
+                new UserValidationService(), mock(NotificationService.class), new EmailBloomFilter(1000, 0.01));
+        List<User> users = usersById();
+
+        User created = userService.createUser(User.builder()
+                .email("created@b.net").password("password123").firstName("Created").lastName("User")
+                .enabled(true).build());
+        userService.updateUser(users.get(0).getId(), User.builder()
+                .email("renamed@elsewhere.org").firstName("Renamed").build());
+        userService.deleteUser(users.get(1).getId());
+        userService.deleteUser(users.get(2).getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(snapshot.getStats().getPendingRefreshes()).isZero();
+        assertThat(snapshot.reconcile()).isGreaterThanOrEqualTo(4);
+        assertThat(snapshot.getStats().getLiveRows()).isEqualTo(399);
+        assertThat(snapshot.getStats().getReconciledAt()).isNotNull();
+        assertThat(snapshot.analyze(UserFilter.builder().emailDomain("elsewhere.org").build()).getTotalUsers())
+                .isEqualTo(1);
+        assertThat(usersById()).extracting(User::getId).contains(created.getId());
+        for (UserFilter filter : filters()) {
+            assertSameAsEntities(filter);
+        }
+    }
+
+    private List<UserFilter> filters() {
+        return List.of(
+                new UserFilter(),
+                UserFilter.builder().role(Role.ADMIN).build(),
+                UserFilter.builder().enabled(false).emailDomain("EXAMPLE.com").build(),
+                UserFilter.builder().emailDomain("my_corp.io").build(),
+                UserFilter.builder().createdAfter(now.minusDays(100)).createdBefore(now.minusDays(10)).build(),
+                UserFilter.builder().updatedAfter(now.minusDays(30)).enabled(true).build(),
+                UserFilter.builder().inactiveSince(now.minusDays(20)).role(Role.USER).build());
+    }
+
+    private void assertSameAsEntities(UserFilter filter) {
+        assertThat(snapshot.analyze(filter))
+                .as(filter.toString())
+                .usingRecursiveComparison()
+                .ignoringFields("processingTimestamp")
+                .isEqualTo(userDataProcessor.processUserData(usersById(), filter));
+        assertThat(snapshot.analyze(filter).getTopEmailDomains())
+                .containsExactlyElementsOf(userDataProcessor.processUserData(usersById(), filter)
+                        .getTopEmailDomains());
+    }
+
+    private List<User> usersById() {
+        List<User> users = entityManager.getEntityManager()
+                .createQuery("SELECT u FROM User u ORDER BY u.id", User.class)
+                .getResultList();
+        entityManager.clear();
+        return users;
+    }
+
+    private void setTimestamps(Long id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        entityManager.getEntityManager()
+                .createQuery("UPDATE User u SET u.createdAt = :createdAt, u.updatedAt = :updatedAt WHERE u.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,167 @@
+package com.usermanagement.api.features.notifications;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationDispatcherTest {
+
+    private static final AtomicLong EVENT_IDS = new AtomicLong();
+
+    private final NotificationDeadLetterStore deadLetterStore = new NotificationDeadLetterStore(10);
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void whenManyMessagesAreQueued_thenTheyAreSentInBatches() {
+        FakeTransport transport = new FakeTransport(batch -> List.of());
+        dispatcher = newDispatcher(transport, 5);
+
+        for (long i = 0; i < 20; i++) {
+            dispatcher.enqueue(message(i, NotificationType.WELCOME));
+        }
+
+        await(() -> dispatcher.getStats().getSent() == 20);
+        assertThat(transport.batchSizes).allMatch(size -> size <= 10);
+        assertThat(dispatcher.getStats().getBatches()).isLessThan(20);
+    }
+
+    @Test
+    void whenSameEventIsDeliveredTwice_thenOnlyOneMessageIsSent() {
+        FakeTransport transport = new FakeTransport(batch -> List.of());
+        dispatcher = newDispatcher(transport, 5);
+
+        assertThat(dispatcher.enqueue(message(1L, NotificationType.WELCOME, "outbox-1"))).isTrue();
+        assertThat(dispatcher.enqueue(message(1L, NotificationType.WELCOME, "outbox-1"))).isFalse();
+        assertThat(dispatcher.enqueue(message(1L, NotificationType.PASSWORD_CHANGED, "outbox-2"))).isTrue();
+
+        await(() -> dispatcher.getStats().getSent() == 2);
+        assertThat(dispatcher.getStats().getDeduplicated()).isEqualTo(1);
+    }
+
+    @Test
+    void whenSameTypeOccursAgainForTheUser_thenBothMessagesAreSent() {
+        FakeTransport transport = new FakeTransport(batch -> List.of());
+        dispatcher = newDispatcher(transport, 5);
+
+        assertThat(dispatcher.enqueue(message(1L, NotificationType.PASSWORD_CHANGED, "outbox-1"))).isTrue();
+        assertThat(dispatcher.enqueue(message(1L, NotificationType.PASSWORD_CHANGED, "outbox-2"))).isTrue();
+        assertThat(dispatcher.enqueue(message(1L, NotificationType.ACCOUNT_LOCKED, null))).isTrue();
+        assertThat(dispatcher.enqueue(message(1L, NotificationType.ACCOUNT_LOCKED, null))).isTrue();
+
+        await(() -> dispatcher.getStats().getSent() == 4);
+        assertThat(dispatcher.getStats().getDeduplicated()).isZero();
+    }
+
+    @Test
+    void whenOnlyOnePathKnowsTheUserId_thenTheSameEventStillSharesItsKey() {
+        NotificationMessage fromListener = message(1L, NotificationType.WELCOME, "outbox-7");
+        NotificationMessage fromService = NotificationMessage.builder()
+                .eventId("outbox-7")
+                .recipient("USER1@example.com")
+                .type(NotificationType.WELCOME)
+                .build();
+
+        assertThat(fromService.dedupKey()).isEqualTo(fromListener.dedupKey());
+    }
+
+    @Test
+    void whenTransportFailsOnce_thenMessageIsRetried() {
+        AtomicInteger calls = new AtomicInteger();
+        FakeTransport transport = new FakeTransport(batch -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new IllegalStateException("Connection refused");
+            }
+            return List.of();
+        });
+        dispatcher = newDispatcher(transport, 5);
+
+        dispatcher.enqueue(message(1L, NotificationType.WELCOME));
+
+        await(() -> dispatcher.getStats().getSent() == 1);
+        assertThat(dispatcher.getStats().getRetried()).isEqualTo(1);
+        assertThat(deadLetterStore.size()).isZero();
+    }
+
+    @Test
+    void whenDeliveryKeepsFailing_thenMessageIsDeadLetteredAndCanBeReplayed() {
+        AtomicInteger failuresLeft = new AtomicInteger(3);
+        FakeTransport transport = new FakeTransport(batch ->
+                failuresLeft.getAndDecrement() > 0 ? batch : List.of());
+        dispatcher = newDispatcher(transport, 3);
+
+        dispatcher.enqueue(message(1L, NotificationType.ACCOUNT_LOCKED));
+
+        await(() -> deadLetterStore.size() == 1);
+        assertThat(deadLetterStore.getDeadLetters().get(0).message().getAttempts()).isEqualTo(3);
+
+        assertThat(dispatcher.replayDeadLetters()).isEqualTo(1);
+        await(() -> dispatcher.getStats().getSent() == 1);
+        assertThat(deadLetterStore.size()).isZero();
+    }
+
+    private NotificationDispatcher newDispatcher(NotificationTransport transport, int maxAttempts) {
+        return new NotificationDispatcher(transport, deadLetterStore, 2, 100, 10, 20, maxAttempts, 1, 10, 60);
+    }
+
+    private NotificationMessage message(long userId, NotificationType type) {
+        return message(userId, type, "event-" + EVENT_IDS.incrementAndGet());
+    }
+
+    private static NotificationMessage message(long userId, NotificationType type, String eventId) {
+        return NotificationMessage.builder()
+                .eventId(eventId)
+                .userId(userId)
+                .recipient("user" + userId + "@example.com")
+                .type(type)
+                .build();
+    }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class FakeTransport implements NotificationTransport {
+        private final Function<List<NotificationMessage>, List<NotificationMessage>> behaviour;
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        FakeTransport(Function<List<NotificationMessage>, List<NotificationMessage>> behaviour) {
+            this.behaviour = behaviour;
+        }
+
+        @Override
+        public List<NotificationMessage> send(List<NotificationMessage> batch) {
+            batchSizes.add(batch.size());
+            return behaviour.apply(batch);
+        }
+
+        @Override
+        public String getProviderName() {
+            return "fake";
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.usermanagement.api.features.notifications;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmtpNotificationTransportTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    private SmtpNotificationTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        transport = new SmtpNotificationTransport(mailSender, "no-reply@usermanagement.local");
+    }
+
+    @Test
+    void whenBatchIsSent_thenEveryMessageReachesTheServer() throws Exception {
+        List<NotificationMessage> failed = transport.send(List.of(
+                message("alice@example.com", NotificationType.WELCOME),
+                message("bob@example.com", NotificationType.PASSWORD_CHANGED)));
+
+        assertThat(failed).isEmpty();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getSubject()).isEqualTo(NotificationType.WELCOME.getSubject());
+        assertThat(received[1].getAllRecipients()[0].toString()).isEqualTo("bob@example.com");
+    }
+
+    @Test
+    void whenServerIsDown_thenWholeBatchIsReportedAsFailed() {
+        JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+        unreachable.setHost("localhost");
+        unreachable.setPort(1);
+        SmtpNotificationTransport downTransport = new SmtpNotificationTransport(unreachable, "no-reply@usermanagement.local");
+
+        NotificationMessage message = message("alice@example.com", NotificationType.WELCOME);
+
+        assertThat(downTransport.send(List.of(message))).containsExactly(message);
+    }
+
+    private NotificationMessage message(String recipient, NotificationType type) {
+        return NotificationMessage.builder()
+                .recipient(recipient)
+                .recipientName("Test")
+                .type(type)
+                .build();
+    }
+}
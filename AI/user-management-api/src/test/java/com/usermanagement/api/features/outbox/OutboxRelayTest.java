@@ -0,0 +1,126 @@
+package com.usermanagement.api.features.outbox;
+
+import com.usermanagement.api.models.OutboxEvent;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+import com.usermanagement.api.patterns.observer.UserEvent;
+import com.usermanagement.api.patterns.observer.ListenerGuardSettings;
+import com.usermanagement.api.patterns.observer.UserEventListener;
+import com.usermanagement.api.patterns.observer.UserEventManager;
+import com.usermanagement.api.repositories.OutboxEventRepository;
+import com.usermanagement.api.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Import({UserEventManager.class, ListenerGuardSettings.class, UserEventOutbox.class, OutboxRelay.class})
+@TestPropertySource(properties = {
+        "users.outbox.relay.enabled=false",
+        "users.outbox.relay.batch-size=2",
+        "users.outbox.relay.max-attempts=2"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private UserEventOutbox userEventOutbox;
+
+    @Autowired
+    private UserEventManager userEventManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<UserEvent> receivedEvents = new ArrayList<>();
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userEventManager.addListener(new UserEventListener() {
+            @Override
+            public void onUserEvent(UserEvent event) {
+                if (failing.get()) {
+                    throw new IllegalStateException("Listener unavailable");
+                }
+                receivedEvents.add(event);
+            }
+
+            @Override
+            public String getListenerName() {
+                return "TestListener";
+            }
+        });
+
+        user = userRepository.save(User.builder()
+                .email("outbox@example.com")
+                .password("password123")
+                .firstName("John")
+                .lastName("Doe")
+                .role(Role.USER)
+                .build());
+    }
+
+    @Test
+    void whenEventsArePending_thenTheyAreDeliveredInBatchesAndRemoved() {
+        for (int i = 0; i < 5; i++) {
+            userEventOutbox.record(UserEvent.UserEventType.USER_UPDATED, user, "Update " + i);
+        }
+
+        assertThat(outboxRelay.relayPending()).isEqualTo(5);
+
+        assertThat(receivedEvents).hasSize(5)
+                .allMatch(event -> event.getUser().getEmail().equals("outbox@example.com"));
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void whenAnotherRelayHoldsTheLease_thenEventIsSkippedUntilItExpires() {
+        userEventOutbox.record(UserEvent.UserEventType.USER_UPDATED, user, "Claimed elsewhere");
+        OutboxEvent event = outboxEventRepository.findAll().get(0);
+        outboxEventRepository.claimByIdIn(List.of(event.getId()), LocalDateTime.now().plusMinutes(1));
+
+        assertThat(outboxRelay.relayPending()).isZero();
+        assertThat(receivedEvents).isEmpty();
+
+        outboxEventRepository.claimByIdIn(List.of(event.getId()), LocalDateTime.now().minusSeconds(1));
+        assertThat(outboxRelay.relayPending()).isEqualTo(1);
+        assertThat(receivedEvents).extracting(UserEvent::getDescription).containsExactly("Claimed elsewhere");
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void whenDeliveryKeepsFailing_thenEventIsRetainedAsDeadLetter() {
+        userEventOutbox.record(UserEvent.UserEventType.USER_DELETED, user, "User deleted");
+        failing.set(true);
+
+        assertThat(outboxRelay.relayBatch()).isZero();
+        assertThat(outboxRelay.relayBatch()).isZero();
+        assertThat(outboxEventRepository.countByAttemptsLessThan(2)).isZero();
+
+        failing.set(false);
+        assertThat(outboxRelay.relayPending()).isZero();
+        assertThat(receivedEvents).isEmpty();
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAttempts, OutboxEvent::getClaimedUntil)
+                .containsExactly(tuple(2, null));
+    }
+}
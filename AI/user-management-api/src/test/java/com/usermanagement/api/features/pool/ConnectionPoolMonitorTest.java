@@ -0,0 +1,83 @@
+package com.usermanagement.api.features.pool;
+
+import com.usermanagement.api.features.pool.dto.PoolMetricsSnapshot;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPoolMonitorTest {
+
+    private HikariDataSource hikari;
+    private PoolMetrics poolMetrics;
+    private InstrumentedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("monitor-test");
+        config.setJdbcUrl("jdbc:h2:mem:monitortest");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(4);
+        hikari = new HikariDataSource(config);
+        poolMetrics = new PoolMetrics();
+        dataSource = new InstrumentedDataSource(hikari, poolMetrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hikari.close();
+    }
+
+    @Test
+    void whenConnectionsAreBorrowed_thenSnapshotReportsOccupancyAndAcquisitions() throws SQLException {
+        ConnectionPoolMonitor monitor = monitor(ConnectionPoolMonitor.AdaptiveMode.RECOMMEND, 4);
+
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            monitor.sample();
+            PoolMetricsSnapshot snapshot = monitor.snapshot();
+
+            assertThat(snapshot.getPoolName()).isEqualTo("monitor-test");
+            assertThat(snapshot.getActiveConnections()).isEqualTo(2);
+            assertThat(snapshot.getAcquisitions()).isEqualTo(2);
+            assertThat(snapshot.getPeakDemand()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void whenDemandPeaks_thenRecommendationAddsHeadroomWithinBounds() {
+        ConnectionPoolMonitor monitor = monitor(ConnectionPoolMonitor.AdaptiveMode.RECOMMEND, 4);
+
+        assertThat(monitor.getRecommendedPoolSize()).isEqualTo(2);
+
+        monitor.recordDemand(3);
+        monitor.recordDemand(8);
+        assertThat(monitor.getRecommendedPoolSize()).isEqualTo(10);
+
+        monitor.recordDemand(100);
+        assertThat(monitor.getRecommendedPoolSize()).isEqualTo(20);
+    }
+
+    @Test
+    void whenAdjustModeAndWindowShowsLowDemand_thenPoolShrinks() throws SQLException {
+        ConnectionPoolMonitor monitor = monitor(ConnectionPoolMonitor.AdaptiveMode.ADJUST, 2);
+        try (Connection connection = dataSource.getConnection()) {
+            monitor.sample();
+            assertThat(hikari.getMaximumPoolSize()).isEqualTo(4);
+
+            monitor.sample();
+        }
+
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(2);
+    }
+
+    private ConnectionPoolMonitor monitor(ConnectionPoolMonitor.AdaptiveMode mode, int windowSamples) {
+        return new ConnectionPoolMonitor(dataSource, poolMetrics, mode, 2, 20, 1.25, windowSamples);
+    }
+}
@@ -0,0 +1,37 @@
+package com.usermanagement.api.features.pool;
+
+import com.usermanagement.api.features.pool.dto.RepositoryMethodUsage;
+import com.usermanagement.api.repositories.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({PoolMetrics.class, RepositoryUsageAspect.class})
+class RepositoryUsageAspectTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PoolMetrics poolMetrics;
+
+    @Test
+    void whenRepositoryMethodsAreCalled_thenUsageIsRecordedPerMethod() {
+        userRepository.existsByEmail("nobody@example.com");
+        userRepository.existsByEmail("someone@example.com");
+        userRepository.count();
+
+        assertThat(poolMetrics.getRepositoryMethodUsage())
+                .extracting(RepositoryMethodUsage::getMethod, RepositoryMethodUsage::getCalls)
+                .contains(tuple("UserRepository.existsByEmail", 2L),
+                        tuple("UserRepository.count", 1L));
+    }
+}
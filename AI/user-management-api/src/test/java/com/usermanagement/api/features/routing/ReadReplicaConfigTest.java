@@ -0,0 +1,71 @@
+package com.usermanagement.api.features.routing;
+
+import com.usermanagement.api.features.pool.ConnectionPoolMonitor;
+import com.usermanagement.api.features.pool.InstrumentedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "users.datasource.replica.enabled=true",
+        "users.datasource.replica.url=jdbc:h2:mem:replicaconfigtest;DB_CLOSE_DELAY=-1",
+        "users.datasource.replica.lag-query=SELECT 0"
+})
+class ReadReplicaConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ConnectionPoolMonitor connectionPoolMonitor;
+
+    @Test
+    void whenReplicaIsEnabled_thenReadOnlyTransactionsUseTheReplicaPool() {
+        replicaLagMonitor.check();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT DATABASE()", String.class))
+                .isNotEqualTo("REPLICACONFIGTEST");
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        String database = transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+        assertThat(database).isEqualTo("REPLICACONFIGTEST");
+    }
+
+    @Test
+    void whenReplicaIsEnabled_thenOnlyThePrimaryPoolIsInstrumentedAndMonitored() throws Exception {
+        assertThat(primaryDataSource).isInstanceOf(InstrumentedDataSource.class);
+        assertThat(replicaDataSource).isInstanceOf(HikariDataSource.class);
+
+        assertThat(connectionPoolMonitor.snapshot().getPoolName())
+                .isEqualTo(primaryDataSource.unwrap(HikariDataSource.class).getPoolName())
+                .isNotEqualTo(((HikariDataSource) replicaDataSource).getPoolName());
+    }
+}
@@ -0,0 +1,69 @@
+package com.usermanagement.api.features.routing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new DriverManagerDataSource("jdbc:h2:mem:routingprimary;DB_CLOSE_DELAY=-1", "sa", "");
+        replica = new DriverManagerDataSource("jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @Test
+    void whenTransactionIsReadOnlyAndReplicaIsCaughtUp_thenReplicaIsUsed() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 0", 1000);
+        monitor.check();
+        DataSource routing = routing(monitor);
+
+        assertThat(databaseIn(routing, true)).isEqualTo("ROUTINGREPLICA");
+        assertThat(databaseIn(routing, false)).isEqualTo("ROUTINGPRIMARY");
+        assertThat(new JdbcTemplate(routing).queryForObject("SELECT DATABASE()", String.class))
+                .isEqualTo("ROUTINGPRIMARY");
+    }
+
+    @Test
+    void whenReplicaLagsBehind_thenReadsFallBackToPrimary() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 5000", 1000);
+        monitor.check();
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.getLastLagMillis()).isEqualTo(5000);
+        assertThat(databaseIn(routing(monitor), true)).isEqualTo("ROUTINGPRIMARY");
+    }
+
+    @Test
+    void whenLagCheckFails_thenReadsFallBackToPrimaryUntilItRecovers() {
+        ReplicaLagMonitor unchecked = new ReplicaLagMonitor(replica, "SELECT 0", 1000);
+        assertThat(databaseIn(routing(unchecked), true)).isEqualTo("ROUTINGPRIMARY");
+
+        ReplicaLagMonitor failing = new ReplicaLagMonitor(replica, "SELECT missing_column", 1000);
+        failing.check();
+        assertThat(failing.isReplicaUsable()).isFalse();
+        assertThat(databaseIn(routing(failing), true)).isEqualTo("ROUTINGPRIMARY");
+    }
+
+    private DataSource routing(ReplicaLagMonitor monitor) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, monitor));
+    }
+
+    private String databaseIn(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+}
@@ -0,0 +1,75 @@
+package com.usermanagement.api.integration;
+
+import com.usermanagement.api.dto.UserRegistrationRequest;
+import com.usermanagement.api.exceptions.EmailAlreadyExistsException;
+import com.usermanagement.api.repositories.UserRepository;
+import com.usermanagement.api.services.AuthenticationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ConcurrentRegistrationTest {
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail("race@example.com").ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void whenSameEmailRegistersConcurrently_thenOneSucceedsAndOthersConflict() throws Exception {
+        int attempts = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < attempts; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    authenticationService.register(request());
+                    return true;
+                } catch (EmailAlreadyExistsException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(userRepository.existsByEmail("race@example.com")).isTrue();
+    }
+
+    private UserRegistrationRequest request() {
+        UserRegistrationRequest request = new UserRegistrationRequest();
+        request.setEmail("race@example.com");
+        request.setPassword("password123");
+        request.setFirstName("Race");
+        request.setLastName("Condition");
+        return request;
+    }
+}
@@ -0,0 +1,116 @@
+package com.usermanagement.api.legacy;
+
+import com.usermanagement.api.dto.UserSummary;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.modern.NotificationService;
+import com.usermanagement.api.repositories.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class LegacyUserManagerTest {
+
+    @Autowired
+    private LegacyUserManager legacyUserManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void whenEmailIsTaken_thenCreateUserReturnsFalseWithoutSecondRow() {
+        assertThat(legacyUserManager.createUser("legacy@example.com", "secret1", "Legacy", "User", "admin")).isTrue();
+        assertThat(legacyUserManager.createUser("legacy@example.com", "secret2", "Other", "User", "user")).isFalse();
+
+        assertThat(userRepository.count()).isEqualTo(1);
+        User stored = userRepository.findByEmail("legacy@example.com").orElseThrow();
+        assertThat(stored.getFirstName()).isEqualTo("Legacy");
+        assertThat(stored.getVersion()).isZero();
+        assertThat(stored.getCreatedAt()).isNotNull();
+        verify(notificationService).sendWelcomeEmail("legacy@example.com", "Legacy");
+        verify(notificationService, never()).sendWelcomeEmail("legacy@example.com", "Other");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void whenListingUsers_thenPasswordsAreMaskedAndStoredHashesUntouched() {
+        legacyUserManager.createUser("first@example.com", "secret1", "First", "User", "user");
+        legacyUserManager.createUser("second@example.com", "secret2", "Second", "User", "user");
+
+        Page<UserSummary> page = legacyUserManager.getUsers(0, 1);
+        assertThat(page.getContent()).extracting(UserSummary::getEmail).containsExactly("first@example.com");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+
+        assertThat(legacyUserManager.getAllUsers())
+                .extracting(User::getPassword)
+                .containsOnly(LegacyUserManager.HIDDEN_PASSWORD);
+        assertThat(userRepository.findByEmail("first@example.com").orElseThrow().getPassword())
+                .isNotEqualTo(LegacyUserManager.HIDDEN_PASSWORD);
+    }
+
+    @Test
+    void whenUnderSustainedConcurrentLoad_thenNoConnectionsLeak() throws Exception {
+        HikariPoolMXBean pool = hikariPool();
+        int threads = 4;
+        int usersPerThread = 40;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                int created = 0;
+                for (int i = 0; i < usersPerThread; i++) {
+                    // Every email is attempted by every thread; only one insert per email may win
+                    if (legacyUserManager.createUser("load" + i + "@example.com", "secret1", "Load", "User", "user")) {
+                        created++;
+                    }
+                    legacyUserManager.getUsers(i % 4, 10);
+                }
+                return created;
+            }));
+        }
+        int created = 0;
+        for (Future<Integer> result : results) {
+            created += result.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(created).isEqualTo(usersPerThread);
+        assertThat(userRepository.count()).isEqualTo(usersPerThread);
+        assertThat(pool.getActiveConnections()).isZero();
+        assertThat(pool.getThreadsAwaitingConnection()).isZero();
+    }
+
+    private HikariPoolMXBean hikariPool() throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+}
@@ -5,6 +5,7 @@ import com.usermanagement.api.exceptions.UserNotFoundException;
 import com.usermanagement.api.models.User;
 import com.usermanagement.api.models.enums.Role;
 import com.usermanagement.api.repositories.UserRepository;
+import com.usermanagement.api.services.EmailBloomFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,7 +45,8 @@ class ModernUserServiceTest {
                 userRepository, 
                 passwordEncoder, 
                 validationService, 
-                notificationService
+                notificationService,
+                new EmailBloomFilter(1000, 0.01)
         );
     }
 
@@ -52,15 +54,14 @@ class ModernUserServiceTest {
     void testCreateUser_Success() {
         // Given
         User user = createTestUser();
-        User savedUser = createTestUser();
-        savedUser.setId(1L);
+        String rawPassword = user.getPassword();
 
-        when(validationService.validateEmail(anyString())).thenReturn(UserValidationService.ValidationResult.success());
-        when(validationService.validatePassword(anyString())).thenReturn(UserValidationService.ValidationResult.success());
-        when(validationService.validateName(anyString())).thenReturn(UserValidationService.ValidationResult.success());
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(validationService.validateUser(anyString(), anyString(), anyString(), anyString())).thenReturn(0);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
+        when(userRepository.insertIfAbsent(any(User.class))).thenAnswer(invocation -> {
+            invocation.<User>getArgument(0).setId(1L);
+            return Optional.of(1L);
+        });
 
         // When
         User result = modernUserService.createUser(user);
@@ -68,12 +69,10 @@ class ModernUserServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(1L, result.getId());
-        verify(validationService).validateEmail(user.getEmail());
-        verify(validationService).validatePassword(user.getPassword());
-        verify(validationService, times(2)).validateName(anyString());
-        verify(userRepository).existsByEmail(user.getEmail());
-        verify(passwordEncoder).encode(user.getPassword());
-        verify(userRepository).save(any(User.class));
+        verify(validationService).validateUser(user.getEmail(), rawPassword, user.getFirstName(), user.getLastName());
+        verify(passwordEncoder).encode(rawPassword);
+        assertEquals("encodedPassword", result.getPassword());
+        verify(userRepository).insertIfAbsent(user);
         verify(notificationService).sendWelcomeEmail(user.getEmail(), user.getFirstName());
     }
 
@@ -81,26 +80,26 @@ class ModernUserServiceTest {
     void testCreateUser_EmailAlreadyExists() {
         // Given
         User user = createTestUser();
-        when(validationService.validateEmail(anyString())).thenReturn(UserValidationService.ValidationResult.success());
-        when(validationService.validatePassword(anyString())).thenReturn(UserValidationService.ValidationResult.success());
-        when(validationService.validateName(anyString())).thenReturn(UserValidationService.ValidationResult.success());
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(validationService.validateUser(anyString(), anyString(), anyString(), anyString())).thenReturn(0);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.insertIfAbsent(any(User.class))).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(EmailAlreadyExistsException.class, () -> modernUserService.createUser(user));
-        verify(userRepository).existsByEmail(user.getEmail());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository).insertIfAbsent(user);
+        verify(notificationService, never()).sendWelcomeEmail(anyString(), anyString());
     }
 
     @Test
     void testCreateUser_InvalidEmail() {
         // Given
         User user = createTestUser();
-        when(validationService.validateEmail(anyString())).thenReturn(UserValidationService.ValidationResult.failure("Invalid email"));
+        when(validationService.validateUser(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(ValidationError.EMAIL_INVALID.mask() | ValidationError.LAST_NAME_TOO_SHORT.mask());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> modernUserService.createUser(user));
-        assertEquals("Invalid email", exception.getMessage());
+        assertEquals(ValidationError.EMAIL_INVALID.getMessage(), exception.getMessage());
         verify(userRepository, never()).save(any(User.class));
     }
 
@@ -0,0 +1,101 @@
+package com.usermanagement.api.modern;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class UserValidationServiceTest {
+
+    private static final Pattern LEGACY_EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static final char[] ALPHABET = {'a', 'Z', '7', '+', '_', '.', '-', '@', ' ', '\n', '\r', '\u2028',
+            '\u0085', '\t', '!', '\u00e9', '#'};
+
+    private final UserValidationService validationService = new UserValidationService();
+
+    @Test
+    void whenScanningEmails_thenAcceptanceMatchesTheLegacyRegex() {
+        List<String> samples = List.of("john@example.com", "a+b_c.d-e@x", "@example.com", "john@", "john",
+                "jo hn@example.com", "john@exa mple.com", "john@example.com\n", "john@@example.com",
+                "john@exa\u2028mple", "j\u00e9@example.com", "  ", "");
+        for (String email : samples) {
+            assertSameAsRegex(email);
+        }
+
+        Random random = new Random(1);
+        for (int i = 0; i < 20_000; i++) {
+            char[] chars = new char[random.nextInt(8)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = ALPHABET[random.nextInt(ALPHABET.length)];
+            }
+            assertSameAsRegex(new String(chars));
+        }
+    }
+
+    @Test
+    void whenValidatingWholeUser_thenEveryErrorIsReported() {
+        assertThat(validationService.validateUser("john@example.com", "secret1", "John", "Doe")).isZero();
+
+        int errors = validationService.validateUser("not-an-email", "123", " ", "D");
+
+        assertThat(ValidationError.fromMask(errors)).containsExactly(
+                ValidationError.EMAIL_INVALID,
+                ValidationError.PASSWORD_TOO_SHORT,
+                ValidationError.FIRST_NAME_REQUIRED,
+                ValidationError.LAST_NAME_TOO_SHORT);
+        assertThat(ValidationError.fromMask(validationService.validateUser(null, null, null, "Doe")))
+                .containsExactly(ValidationError.EMAIL_REQUIRED, ValidationError.PASSWORD_TOO_SHORT,
+                        ValidationError.FIRST_NAME_REQUIRED);
+    }
+
+    @Test
+    void whenValidatingSingleFields_thenMessagesAreUnchanged() {
+        assertThat(validationService.validateEmail(" ").getErrorMessage()).isEqualTo("Email is required");
+        assertThat(validationService.validateEmail("john").getErrorMessage()).isEqualTo("Invalid email format");
+        assertThat(validationService.validatePassword("12345").getErrorMessage())
+                .isEqualTo("Password must be at least 6 characters");
+        assertThat(validationService.validateName(null).getErrorMessage()).isEqualTo("Name is required");
+        assertThat(validationService.validateName(" J ").getErrorMessage())
+                .isEqualTo("Name must be at least 2 characters");
+        assertThat(validationService.validateName(" Jo ").isValid()).isTrue();
+    }
+
+    @Test
+    void whenValidatingRepeatedly_thenNothingIsAllocated() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled());
+
+        Runnable validations = () -> {
+            for (int i = 0; i < 100_000; i++) {
+                validationService.validateEmail("john.doe@example.com");
+                validationService.validateEmail("john doe@example.com");
+                validationService.validatePassword("secret1");
+                validationService.validateName(" John ");
+                validationService.validateUser("john.doe@example.com", "secret1", "John", "Doe");
+            }
+        };
+        validations.run();
+
+        long threadId = Thread.currentThread().getId();
+        long before = hotspot.getThreadAllocatedBytes(threadId);
+        validations.run();
+        long allocated = hotspot.getThreadAllocatedBytes(threadId) - before;
+
+        // The regex alone allocated a Matcher per call, i.e. tens of megabytes here
+        assertThat(allocated).isLessThan(64 * 1024);
+    }
+
+    private void assertSameAsRegex(String email) {
+        boolean expected = !email.trim().isEmpty() && LEGACY_EMAIL_PATTERN.matcher(email).matches();
+        assertThat(validationService.validateEmail(email).isValid())
+                .as("[%s]", email)
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,64 @@
+package com.usermanagement.api.patterns.factory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseConnectionFactoryTest {
+
+    private DatabaseConnectionFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        factory = new DatabaseConnectionFactory("jdbc:postgresql://localhost:5432/test", "sa", "", 2, 0, 500, 250, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.shutdown();
+    }
+
+    @Test
+    void whenConnectionIsClosed_thenPhysicalConnectionIsReused() throws SQLException {
+        Connection first;
+        try (DatabaseConnection connection = factory.createConnection(DatabaseConnection.DatabaseType.H2)) {
+            first = connection.getConnection().unwrap(Connection.class);
+        }
+        Connection second;
+        try (DatabaseConnection connection = factory.createConnection(DatabaseConnection.DatabaseType.H2)) {
+            second = connection.getConnection().unwrap(Connection.class);
+        }
+
+        assertThat(second).isSameAs(first);
+        assertThat(factory.getPoolStats()).singleElement().satisfies(stats -> {
+            assertThat(stats.getType()).isEqualTo(DatabaseConnection.DatabaseType.H2);
+            assertThat(stats.getTotalConnections()).isEqualTo(1);
+            assertThat(stats.getActiveConnections()).isZero();
+        });
+    }
+
+    @Test
+    void whenPoolIsExhausted_thenBorrowTimesOut() throws SQLException {
+        try (DatabaseConnection first = factory.createConnection(DatabaseConnection.DatabaseType.H2);
+             DatabaseConnection second = factory.createConnection(DatabaseConnection.DatabaseType.H2)) {
+            assertThat(factory.getPoolStats().get(0).getActiveConnections()).isEqualTo(2);
+
+            assertThatThrownBy(() -> factory.createConnection(DatabaseConnection.DatabaseType.H2))
+                    .isInstanceOf(SQLException.class);
+        }
+    }
+
+    @Test
+    void whenDriverIsMissing_thenThrowSqlException() {
+        assertThatThrownBy(() -> factory.createConnection(DatabaseConnection.DatabaseType.ORACLE))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("driver not found");
+        assertThat(factory.getPoolStats()).isEmpty();
+    }
+}
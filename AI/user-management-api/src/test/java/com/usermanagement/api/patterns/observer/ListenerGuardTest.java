@@ -0,0 +1,130 @@
+package com.usermanagement.api.patterns.observer;
+
+import com.usermanagement.api.models.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListenerGuardTest {
+
+    private ListenerGuard guard;
+
+    @AfterEach
+    void tearDown() {
+        if (guard != null) {
+            guard.shutdown();
+        }
+    }
+
+    @Test
+    void whenListenerIsSlow_thenCallTimesOut() {
+        CountDownLatch release = new CountDownLatch(1);
+        guard = new ListenerGuard(listener(event -> await(release)),
+                new ListenerGuardSettings(50, 8, 50, 20, 10, 30000));
+
+        long start = System.nanoTime();
+        boolean delivered = guard.invoke(event());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        assertThat(delivered).isFalse();
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(guard.stats().getTimedOut()).isEqualTo(1);
+    }
+
+    @Test
+    void whenListenerKeepsFailing_thenCircuitOpensAndCallsAreShortCircuited() {
+        AtomicInteger calls = new AtomicInteger();
+        guard = new ListenerGuard(listener(event -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Downstream unavailable");
+        }), new ListenerGuardSettings(0, 8, 50, 4, 4, 30000));
+
+        for (int i = 0; i < 10; i++) {
+            guard.invoke(event());
+        }
+
+        assertThat(calls.get()).isEqualTo(4);
+        ListenerGuardStats stats = guard.stats();
+        assertThat(stats.getCircuitState()).isEqualTo("OPEN");
+        assertThat(stats.getFailed()).isEqualTo(4);
+        assertThat(stats.getShortCircuited()).isEqualTo(6);
+    }
+
+    @Test
+    void whenOpenDurationElapses_thenSuccessfulTrialClosesCircuit() throws Exception {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        guard = new ListenerGuard(listener(event -> {
+            if (failing.get()) {
+                throw new IllegalStateException("Downstream unavailable");
+            }
+        }), new ListenerGuardSettings(0, 8, 50, 2, 2, 20));
+
+        guard.invoke(event());
+        guard.invoke(event());
+        assertThat(guard.stats().getCircuitState()).isEqualTo("OPEN");
+
+        failing.set(false);
+        Thread.sleep(40);
+
+        assertThat(guard.invoke(event())).isTrue();
+        assertThat(guard.stats().getCircuitState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void whenBulkheadIsFull_thenExtraCallsAreRejected() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        guard = new ListenerGuard(listener(event -> {
+            entered.countDown();
+            await(release);
+        }), new ListenerGuardSettings(0, 1, 50, 20, 10, 30000));
+
+        Thread blocked = new Thread(() -> guard.invoke(event()));
+        blocked.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(guard.invoke(event())).isFalse();
+        release.countDown();
+        blocked.join();
+
+        ListenerGuardStats stats = guard.stats();
+        assertThat(stats.getRejected()).isEqualTo(1);
+        assertThat(stats.getSucceeded()).isEqualTo(1);
+        assertThat(stats.getActiveCalls()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static UserEvent event() {
+        return new UserEvent(UserEvent.UserEventType.USER_UPDATED,
+                User.builder().id(1L).email("user1@example.com").build(), "test");
+    }
+
+    private static UserEventListener listener(Consumer<UserEvent> handler) {
+        return new UserEventListener() {
+            @Override
+            public void onUserEvent(UserEvent event) {
+                handler.accept(event);
+            }
+
+            @Override
+            public String getListenerName() {
+                return "guarded";
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package com.usermanagement.api.patterns.observer;
+
+import com.usermanagement.api.models.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserEventManagerTest {
+
+    private UserEventManager manager;
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    void whenSyncMode_thenListenerRunsOnCallerThread() {
+        manager = createManager(UserEventManager.DispatchMode.SYNC, 1, "BLOCK");
+        List<String> threads = new CopyOnWriteArrayList<>();
+        manager.addListener(listener("sync", event -> threads.add(Thread.currentThread().getName())));
+
+        manager.notifyListeners(event(1L, UserEvent.UserEventType.USER_LOGGED_IN));
+
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+        assertThat(manager.getDispatchStats()).isEmpty();
+    }
+
+    @Test
+    void whenAsyncMode_thenEventsOfEachUserArriveInOrder() throws Exception {
+        manager = createManager(UserEventManager.DispatchMode.ASYNC, 1024, "BLOCK");
+        List<UserEvent> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(200);
+        manager.addListener(listener("async", event -> {
+            received.add(event);
+            done.countDown();
+        }));
+
+        for (int i = 0; i < 100; i++) {
+            manager.notifyListeners(event(1L, UserEvent.UserEventType.USER_UPDATED, "a" + i));
+            manager.notifyListeners(event(2L, UserEvent.UserEventType.USER_UPDATED, "b" + i));
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received.stream().filter(e -> e.getUser().getId() == 1L).map(UserEvent::getDescription))
+                .containsExactlyElementsOf(sequence("a"));
+        assertThat(received.stream().filter(e -> e.getUser().getId() == 2L).map(UserEvent::getDescription))
+                .containsExactlyElementsOf(sequence("b"));
+        assertThat(manager.getDispatchStats()).singleElement()
+                .satisfies(stats -> assertThat(stats.getDispatched()).isEqualTo(200));
+    }
+
+    @Test
+    void whenQueueIsFullWithDropPolicy_thenEventsAreDroppedAndCounted() throws Exception {
+        manager = createManager(UserEventManager.DispatchMode.ASYNC, 1, "DROP");
+        CountDownLatch release = new CountDownLatch(1);
+        manager.addListener(listener("slow", event -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        for (int i = 0; i < 10; i++) {
+            manager.notifyListeners(event(1L, UserEvent.UserEventType.USER_LOGGED_IN));
+        }
+        release.countDown();
+
+        ListenerDispatchStats stats = manager.getDispatchStats().get(0);
+        assertThat(stats.getDropped()).isGreaterThanOrEqualTo(8);
+    }
+
+    @Test
+    void whenListenerSubscribesToSomeTypes_thenItOnlyReceivesThoseTypes() {
+        manager = createManager(UserEventManager.DispatchMode.SYNC, 1, "BLOCK");
+        List<UserEvent> registrations = new CopyOnWriteArrayList<>();
+        List<UserEvent> everything = new CopyOnWriteArrayList<>();
+        manager.addListener(listener("registrations", registrations::add,
+                EnumSet.of(UserEvent.UserEventType.USER_REGISTERED)));
+        manager.addListener(listener("everything", everything::add));
+
+        manager.notifyListeners(event(1L, UserEvent.UserEventType.USER_REGISTERED));
+        manager.notifyListeners(event(1L, UserEvent.UserEventType.USER_LOGGED_IN));
+
+        assertThat(registrations).extracting(UserEvent::getType)
+                .containsExactly(UserEvent.UserEventType.USER_REGISTERED);
+        assertThat(everything).hasSize(2);
+    }
+
+    @Test
+    void whenNoListenerSubscribes_thenEventTypeHasNoSubscribers() {
+        manager = createManager(UserEventManager.DispatchMode.SYNC, 1, "BLOCK");
+        UserEventListener registrations = listener("registrations", event -> { },
+                EnumSet.of(UserEvent.UserEventType.USER_REGISTERED));
+        manager.addListener(registrations);
+
+        assertThat(manager.hasSubscribers(UserEvent.UserEventType.USER_REGISTERED)).isTrue();
+        assertThat(manager.hasSubscribers(UserEvent.UserEventType.USER_LOGGED_IN)).isFalse();
+
+        manager.removeListener(registrations);
+        assertThat(manager.hasSubscribers(UserEvent.UserEventType.USER_REGISTERED)).isFalse();
+    }
+
+    private UserEventManager createManager(UserEventManager.DispatchMode mode, int capacity, String overflowPolicy) {
+        return new UserEventManager(new StaticListableBeanFactory().getBeanProvider(UserEventListener.class),
+                ListenerGuardSettings.defaults(), mode, 1, capacity, overflowPolicy, 10);
+    }
+
+    private static List<String> sequence(String prefix) {
+        return IntStream.range(0, 100).mapToObj(i -> prefix + i).toList();
+    }
+
+    private static UserEvent event(Long userId, UserEvent.UserEventType type) {
+        return event(userId, type, "test");
+    }
+
+    private static UserEvent event(Long userId, UserEvent.UserEventType type, String description) {
+        return new UserEvent(type, User.builder().id(userId).email("user" + userId + "@example.com").build(),
+                description);
+    }
+
+    private static UserEventListener listener(String name, Consumer<UserEvent> handler) {
+        return listener(name, handler, EnumSet.allOf(UserEvent.UserEventType.class));
+    }
+
+    private static UserEventListener listener(String name, Consumer<UserEvent> handler,
+                                              Set<UserEvent.UserEventType> types) {
+        return new UserEventListener() {
+            @Override
+            public void onUserEvent(UserEvent event) {
+                handler.accept(event);
+            }
+
+            @Override
+            public String getListenerName() {
+                return name;
+            }
+
+            @Override
+            public Set<UserEvent.UserEventType> getSubscribedEventTypes() {
+                return types;
+            }
+        };
+    }
+}
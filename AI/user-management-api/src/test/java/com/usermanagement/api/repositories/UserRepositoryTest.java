@@ -1,14 +1,19 @@
 package com.usermanagement.api.repositories;
 
+import com.usermanagement.api.dto.DomainCount;
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.dto.UserResponse;
 import com.usermanagement.api.models.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 class UserRepositoryTest {
@@ -38,6 +43,25 @@ class UserRepositoryTest {
         assertThat(found.get().getEmail()).isEqualTo(user.getEmail());
     }
 
+    @Test
+    void whenFindResponseByEmail_thenReturnProjection() {
+        // Given
+        User user = new User();
+        user.setEmail("test@example.com");
+        user.setPassword("password123");
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        entityManager.persist(user);
+        entityManager.flush();
+
+        // When
+        Optional<UserResponse> found = userRepository.findResponseByEmail(user.getEmail());
+
+        // Then
+        assertThat(found).contains(UserResponse.from(user));
+        assertThat(userRepository.findResponseByEmail("nonexistent@example.com")).isEmpty();
+    }
+
     @Test
     void whenFindByEmailWithNonExistentEmail_thenReturnEmpty() {
         // When
@@ -73,4 +97,91 @@ class UserRepositoryTest {
         // Then
         assertThat(exists).isFalse();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void whenInsertIfAbsent_thenRowIsInsertedAndUserPopulated() {
+        // Given
+        User user = User.builder()
+                .email("insert@example.com")
+                .password("encoded")
+                .firstName("Jane")
+                .lastName("Doe")
+                .build();
+
+        // When
+        Optional<Long> id = userRepository.insertIfAbsent(user);
+
+        // Then
+        assertThat(id).isPresent();
+        assertThat(user.getId()).isEqualTo(id.get());
+        assertThat(user.getVersion()).isZero();
+        assertThat(userRepository.findById(id.get())).get()
+                .extracting(User::getEmail).isEqualTo("insert@example.com");
+    }
+
+    @Test
+    void whenInsertIfAbsentWithTakenEmail_thenReturnEmpty() {
+        // Given
+        User existing = User.builder().email("taken@example.com").password("encoded")
+                .firstName("John").lastName("Doe").build();
+        userRepository.insertIfAbsent(existing);
+
+        // When
+        Optional<Long> id = userRepository.insertIfAbsent(User.builder().email("taken@example.com")
+                .password("other").firstName("Jane").lastName("Roe").build());
+
+        // Then
+        assertThat(id).isEmpty();
+        assertThat(userRepository.findByEmail("taken@example.com")).get()
+                .extracting(User::getFirstName).isEqualTo("John");
+    }
+
+    @Test
+    void whenEmailIsSet_thenDomainColumnIsMaintainedAndQueryable() {
+        // Given
+        for (String email : List.of("a@Example.com", "b@example.COM", "c@corp.io")) {
+            entityManager.persist(User.builder().email(email).password("encoded")
+                    .firstName("John").lastName("Doe").build());
+        }
+        User moved = userRepository.insertIfAbsent(User.builder().email("d@corp.io").password("encoded")
+                .firstName("Jane").lastName("Roe").build())
+                .flatMap(userRepository::findById)
+                .orElseThrow();
+        moved.setEmail("d@Example.com");
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<DomainCount> counts = userRepository.countUsersByEmailDomain();
+        List<User> matching = userRepository.findAll(
+                UserSpecifications.matching(UserFilter.builder().emailDomain("EXAMPLE.COM").build()));
+
+        // Then
+        assertThat(counts).extracting(DomainCount::getDomain, DomainCount::getUserCount)
+                .containsExactly(tuple("example.com", 3L),
+                        tuple("corp.io", 1L));
+        assertThat(matching).extracting(User::getEmailDomain).containsOnly("example.com").hasSize(3);
+    }
+
+    @Test
+    void whenDomainIsNotBackfilledYet_thenDomainFilterMatchesOnTheEmail() {
+        // Given
+        for (String email : List.of("a@My_Corp.io", "b@my_corp.io", "c@myxcorp.io", "d@other.io")) {
+            entityManager.persist(User.builder().email(email).password("encoded")
+                    .firstName("John").lastName("Doe").build());
+        }
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE users SET email_domain = NULL WHERE email <> 'b@my_corp.io'")
+                .executeUpdate();
+        entityManager.clear();
+
+        // When
+        List<User> matching = userRepository.findAll(
+                UserSpecifications.matching(UserFilter.builder().emailDomain("MY_CORP.IO").build()));
+
+        // Then
+        assertThat(matching).extracting(User::getEmail)
+                .containsExactlyInAnyOrder("a@My_Corp.io", "b@my_corp.io");
+    }
+}
@@ -0,0 +1,50 @@
+package com.usermanagement.api.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailBloomFilterTest {
+
+    @Test
+    void whenNotLoaded_thenEveryEmailMightExist() {
+        EmailBloomFilter filter = new EmailBloomFilter(1000, 0.01);
+
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain("unknown@example.com")).isTrue();
+    }
+
+    @Test
+    void whenLoaded_thenStoredEmailsAreFoundCaseInsensitively() {
+        EmailBloomFilter filter = new EmailBloomFilter(1000, 0.01);
+        filter.load(Stream.of("john@example.com", "Jane@Example.com"));
+
+        assertThat(filter.mightContain("JOHN@example.com")).isTrue();
+        assertThat(filter.mightContain("jane@example.com")).isTrue();
+    }
+
+    @Test
+    void whenPutAfterLoad_thenEmailIsFound() {
+        EmailBloomFilter filter = new EmailBloomFilter(1000, 0.01);
+        filter.load(Stream.empty());
+
+        assertThat(filter.mightContain("new@example.com")).isFalse();
+        filter.put("new@example.com");
+        assertThat(filter.mightContain("new@example.com")).isTrue();
+    }
+
+    @Test
+    void whenLoaded_thenFalsePositiveRateStaysNearConfiguredRate() {
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        filter.load(IntStream.range(0, 10_000).mapToObj(i -> "user" + i + "@example.com"));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("absent" + i + "@example.org"))
+                .count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
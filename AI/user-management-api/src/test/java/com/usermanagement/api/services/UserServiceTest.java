@@ -1,18 +1,23 @@
 package com.usermanagement.api.services;
 
+import com.usermanagement.api.dto.UserPatchRequest;
 import com.usermanagement.api.exceptions.EmailAlreadyExistsException;
 import com.usermanagement.api.exceptions.UserNotFoundException;
+import com.usermanagement.api.features.outbox.UserEventOutbox;
 import com.usermanagement.api.models.User;
+import com.usermanagement.api.patterns.observer.UserEvent;
 import com.usermanagement.api.repositories.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,6 +33,12 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserEventOutbox userEventOutbox;
+
+    @Spy
+    private EmailBloomFilter emailBloomFilter = new EmailBloomFilter(1000, 0.01);
+
     @InjectMocks
     private UserService userService;
 
@@ -46,9 +57,8 @@ class UserServiceTest {
     @Test
     void whenRegisterUser_thenUserIsSaved() {
         // Given
-        when(userRepository.existsByEmail(testUser.getEmail())).thenReturn(false);
         when(passwordEncoder.encode(testUser.getPassword())).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userRepository.insertIfAbsent(testUser)).thenReturn(Optional.of(1L));
 
         // When
         User registeredUser = userService.registerUser(testUser);
@@ -56,18 +66,33 @@ class UserServiceTest {
         // Then
         assertThat(registeredUser).isNotNull();
         assertThat(registeredUser.getEmail()).isEqualTo(testUser.getEmail());
-        verify(userRepository).save(any(User.class));
+        assertThat(registeredUser.getPassword()).isEqualTo("encodedPassword");
+        verify(userRepository).insertIfAbsent(testUser);
     }
 
     @Test
     void whenRegisterUserWithExistingEmail_thenThrowException() {
         // Given
-        when(userRepository.existsByEmail(testUser.getEmail())).thenReturn(true);
+        when(userRepository.insertIfAbsent(testUser)).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> userService.registerUser(testUser))
                 .isInstanceOf(EmailAlreadyExistsException.class)
                 .hasMessageContaining("Email already exists");
+        verify(userEventOutbox, never()).record(any(), any(), any());
+    }
+
+    @Test
+    void whenRegisterUser_thenSingleInsertWithoutExistenceProbe() {
+        emailBloomFilter.load(Stream.of(testUser.getEmail()));
+        when(passwordEncoder.encode(testUser.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.insertIfAbsent(testUser)).thenReturn(Optional.of(1L));
+
+        userService.registerUser(testUser);
+
+        verify(userRepository, never()).existsByEmail(any());
+        verify(userRepository, never()).save(any(User.class));
+        assertThat(emailBloomFilter.mightContain(testUser.getEmail())).isTrue();
     }
 
     @Test
@@ -170,4 +195,73 @@ class UserServiceTest {
         assertThat(updatedUser.getPassword()).isEqualTo("password123");
         verify(userRepository).save(any(User.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void whenUpdateUserResendsPassword_thenItIsNeitherHashedNorReportedAsChanged() {
+        testUser.setPassword("encodedPassword");
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        User userDetails = new User();
+        userDetails.setFirstName("Jane");
+        userDetails.setLastName("Smith");
+        userDetails.setPassword("password123");
+
+        User updatedUser = userService.updateUser(testUser.getId(), userDetails);
+
+        assertThat(updatedUser.getPassword()).isEqualTo("encodedPassword");
+        verify(passwordEncoder, never()).encode(any());
+        verify(userEventOutbox, never()).record(eq(UserEvent.UserEventType.PASSWORD_CHANGED), any(), any());
+    }
+
+    @Test
+    void whenPatchUser_thenOnlyProvidedFieldsChange() {
+        testUser.setPassword("encodedPassword");
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        User patchedUser = userService.patchUser(testUser.getId(),
+                UserPatchRequest.builder().firstName("Jane").build());
+
+        assertThat(patchedUser.getFirstName()).isEqualTo("Jane");
+        assertThat(patchedUser.getLastName()).isEqualTo("Doe");
+        assertThat(patchedUser.getPassword()).isEqualTo("encodedPassword");
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void whenPatchUserWithPassword_thenItIsHashedExactlyOnce() {
+        testUser.setPassword("encodedPassword");
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(passwordEncoder.encode("password123")).thenReturn("newEncodedPassword");
+
+        userService.patchUser(testUser.getId(), UserPatchRequest.builder().password("password123").build());
+
+        assertThat(testUser.getPassword()).isEqualTo("newEncodedPassword");
+        verify(passwordEncoder).encode("password123");
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    void whenPatchUserWithTakenEmail_thenThrowException() {
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(userRepository.existsByEmail("taken@example.com")).thenReturn(true);
+
+        assertThatThrownBy(() -> userService.patchUser(testUser.getId(),
+                UserPatchRequest.builder().email("taken@example.com").build()))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void whenPatchUserWithEmailTheFilterHasNotSeen_thenDatabaseIsStillProbed() {
+        emailBloomFilter.load(Stream.empty());
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(userRepository.existsByEmail("elsewhere@example.com")).thenReturn(true);
+
+        assertThatThrownBy(() -> userService.patchUser(testUser.getId(),
+                UserPatchRequest.builder().email("elsewhere@example.com").build()))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+        verify(userRepository, never()).save(any(User.class));
+    }
+}
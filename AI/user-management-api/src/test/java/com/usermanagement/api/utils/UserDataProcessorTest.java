@@ -0,0 +1,203 @@
+package com.usermanagement.api.utils;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+import com.usermanagement.api.utils.UserDataProcessor.ProcessingMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class UserDataProcessorTest {
+
+    private static final String[] DOMAINS = {"example.com", "Example.COM", "mail.org", "corp.io", "b.net", "a.net"};
+    private static final String[] NAMES = {"Al", "Bo", "Christina", " ", "", null, "Jo"};
+
+    private final UserDataProcessor processor = new UserDataProcessor(ProcessingMode.SINGLE_PASS, 4, 256);
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    void whenProcessingRandomUsers_thenSinglePassMatchesStreams() {
+        List<User> users = randomUsers(5_000, 42);
+
+        for (Map<String, Object> filters : List.<Map<String, Object>>of(
+                Map.of(),
+                Map.of("role", Role.ADMIN),
+                Map.of("active", false),
+                Map.of("emailDomain", "EXAMPLE.com", "active", true))) {
+            assertSameResult(users, filters);
+        }
+    }
+
+    @Test
+    void whenDomainsTie_thenTopDomainOrderMatchesStreams() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            for (String domain : new String[]{"z.io", "y.io", "x.io", "w.io", "v.io", "u.io", "t.io"}) {
+                users.add(user(i + "@" + domain, Role.USER, true, LocalDateTime.now(), "Anna", "Smith"));
+            }
+        }
+
+        assertSameResult(users.subList(0, 7), null);
+        assertSameResult(users, null);
+    }
+
+    @Test
+    void whenProcessingInParallel_thenResultIsDeterministicAcrossRuns() {
+        List<User> users = new LinkedList<>(randomUsers(20_000, 11));
+
+        UserAnalysisResult first = processor.processUserData(users, null, ProcessingMode.PARALLEL);
+        for (int i = 0; i < 5; i++) {
+            assertThat(processor.processUserData(users, null, ProcessingMode.PARALLEL))
+                    .usingRecursiveComparison()
+                    .ignoringFields("processingTimestamp")
+                    .isEqualTo(first);
+        }
+    }
+
+    @Test
+    void whenFiltersExcludeEveryUser_thenEnginesReturnEmptyStatistics() {
+        List<User> users = randomUsers(100, 7);
+
+        UserAnalysisResult result = processor.processUserData(users, Map.of("emailDomain", "nowhere.test"));
+
+        assertThat(result.getTotalUsers()).isZero();
+        assertThat(result.getAverageNameLength()).isZero();
+        assertSameResult(users, Map.of("emailDomain", "nowhere.test"));
+    }
+
+    @Test
+    void whenProcessingAStream_thenResultMatchesListAndStreamIsClosed() {
+        List<User> users = randomUsers(3_000, 5);
+        Map<String, Object> filters = Map.of("active", true);
+        AtomicBoolean closed = new AtomicBoolean();
+
+        UserAnalysisResult streamed = processor.processUserStream(
+                users.stream().onClose(() -> closed.set(true)), filters);
+
+        assertThat(streamed)
+                .usingRecursiveComparison()
+                .ignoringFields("processingTimestamp")
+                .isEqualTo(processor.processUserData(users, filters, ProcessingMode.STREAMS));
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void whenFilteringWithTypedFilter_thenResultMatchesEquivalentMapFilters() {
+        List<User> users = randomUsers(5_000, 11);
+        UserFilter filter = UserFilter.builder().role(Role.USER).enabled(true).emailDomain("EXAMPLE.com").build();
+
+        assertThat(processor.processUserData(users, filter))
+                .usingRecursiveComparison()
+                .ignoringFields("processingTimestamp")
+                .isEqualTo(processor.processUserData(users,
+                        Map.of("role", Role.USER, "active", true, "emailDomain", "example.com"),
+                        ProcessingMode.STREAMS));
+    }
+
+    @Test
+    void whenStreamIsEmpty_thenEmptyResult() {
+        UserAnalysisResult result = processor.processUserStream(Stream.empty(), Map.of());
+
+        assertThat(result)
+                .usingRecursiveComparison()
+                .ignoringFields("processingTimestamp")
+                .isEqualTo(UserAnalysisResult.empty());
+    }
+
+    @Test
+    void whenUserHasNoRole_thenBothEnginesFail() {
+        List<User> users = List.of(user("x@example.com", null, true, null, "Anna", "Smith"));
+
+        for (ProcessingMode mode : ProcessingMode.values()) {
+            assertThatThrownBy(() -> processor.processUserData(users, null, mode))
+                    .isInstanceOf(UserDataProcessor.UserDataProcessingException.class);
+        }
+    }
+
+    @Test
+    void whenProcessingLargeInput_thenSinglePassAllocatesFarLess() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled());
+
+        List<User> users = randomUsers(50_000, 3);
+        for (int i = 0; i < 3; i++) {
+            processor.processUserData(users, null, ProcessingMode.STREAMS);
+            processor.processUserData(users, null, ProcessingMode.SINGLE_PASS);
+        }
+
+        long streams = allocatedBytes(hotspot, () -> processor.processUserData(users, null, ProcessingMode.STREAMS));
+        long singlePass = allocatedBytes(hotspot,
+                () -> processor.processUserData(users, null, ProcessingMode.SINGLE_PASS));
+
+        assertThat(singlePass).isLessThan(streams / 4);
+    }
+
+    private void assertSameResult(List<User> users, Map<String, Object> filters) {
+        UserAnalysisResult streams = processor.processUserData(users, filters, ProcessingMode.STREAMS);
+
+        for (ProcessingMode mode : List.of(ProcessingMode.SINGLE_PASS, ProcessingMode.PARALLEL)) {
+            UserAnalysisResult result = processor.processUserData(users, filters, mode);
+            assertThat(result)
+                    .as(mode.name())
+                    .usingRecursiveComparison()
+                    .ignoringFields("processingTimestamp")
+                    .isEqualTo(streams);
+            assertThat(result.getTopEmailDomains()).containsExactlyElementsOf(streams.getTopEmailDomains());
+        }
+    }
+
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads, Runnable task) {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        task.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static List<User> randomUsers(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String email = random.nextInt(50) == 0
+                    ? "no-at-sign-" + i
+                    : "user" + i + "@" + DOMAINS[random.nextInt(DOMAINS.length)];
+            LocalDateTime createdAt = random.nextInt(20) == 0 ? null : now.minusDays(random.nextInt(900));
+            users.add(user(email, random.nextInt(4) == 0 ? Role.ADMIN : Role.USER, random.nextInt(5) != 0,
+                    createdAt, NAMES[random.nextInt(NAMES.length)], NAMES[random.nextInt(NAMES.length)]));
+        }
+        return users;
+    }
+
+    private static User user(String email, Role role, boolean enabled, LocalDateTime createdAt,
+                             String firstName, String lastName) {
+        User user = User.builder()
+                .email(email)
+                .enabled(enabled)
+                .createdAt(createdAt)
+                .firstName(firstName)
+                .lastName(lastName)
+                .build();
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,69 @@
+package com.usermanagement.api.utils;
+
+import com.usermanagement.api.dto.UserFilter;
+import com.usermanagement.api.models.User;
+import com.usermanagement.api.models.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserFilterPredicatesTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @Test
+    void whenFilterIsEmpty_thenEveryUserMatches() {
+        Predicate<User> predicate = UserFilterPredicates.compile(new UserFilter());
+
+        assertThat(predicate.test(User.builder().build())).isTrue();
+    }
+
+    @Test
+    void whenFilteringByDomain_thenSuffixMatchesIgnoringCaseAndWildcards() {
+        Predicate<User> predicate = UserFilterPredicates.compile(UserFilter.builder().emailDomain("my_corp.io").build());
+
+        assertThat(predicate.test(user("Jane@MY_CORP.IO"))).isTrue();
+        assertThat(predicate.test(user("jane@myXcorp.io"))).isFalse();
+        assertThat(predicate.test(user("jane@sub.my_corp.io"))).isFalse();
+        assertThat(predicate.test(user(null))).isFalse();
+    }
+
+    @Test
+    void whenFilteringByDates_thenLowerBoundsAreInclusiveAndUpperBoundsExclusive() {
+        Predicate<User> created = UserFilterPredicates.compile(UserFilter.builder()
+                .createdAfter(NOON).createdBefore(NOON.plusDays(1)).build());
+        Predicate<User> inactive = UserFilterPredicates.compile(UserFilter.builder().inactiveSince(NOON).build());
+
+        assertThat(created.test(user(NOON, NOON))).isTrue();
+        assertThat(created.test(user(NOON.plusDays(1), NOON))).isFalse();
+        assertThat(created.test(user(null, NOON))).isFalse();
+        assertThat(inactive.test(user(NOON, NOON))).isFalse();
+        assertThat(inactive.test(user(NOON, NOON.minusSeconds(1)))).isTrue();
+        assertThat(inactive.test(user(NOON, null))).isFalse();
+    }
+
+    @Test
+    void whenCombiningCriteria_thenAllMustMatch() {
+        Predicate<User> predicate = UserFilterPredicates.compile(UserFilter.builder()
+                .role(Role.ADMIN).enabled(false).updatedAfter(NOON).build());
+
+        User match = User.builder().role(Role.ADMIN).enabled(false).updatedAt(NOON).build();
+        User enabled = User.builder().role(Role.ADMIN).enabled(true).updatedAt(NOON).build();
+        User stale = User.builder().role(Role.ADMIN).enabled(false).updatedAt(NOON.minusDays(1)).build();
+
+        assertThat(predicate.test(match)).isTrue();
+        assertThat(predicate.test(enabled)).isFalse();
+        assertThat(predicate.test(stale)).isFalse();
+    }
+
+    private static User user(String email) {
+        return User.builder().email(email).build();
+    }
+
+    private static User user(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return User.builder().createdAt(createdAt).updatedAt(updatedAt).build();
+    }
+}